@@ -1,6 +1,6 @@
 import { useState, useEffect } from "react";
 import { useNavigate, useParams } from "react-router-dom";
-import { jobAPI, authAPI } from "../services/api";
+import { jobAPI } from "../services/api";
 
 function ApplicationForm() {
   const navigate = useNavigate();
@@ -19,9 +19,7 @@ function ApplicationForm() {
       if (id) {
         setLoading(true);
         try {
-          const user = authAPI.getCurrentUser();
-          const jobs = await jobAPI.getUserJobs(user.id);
-          const jobToEdit = jobs.find((j) => j.id.toString() === id);
+          const jobToEdit = await jobAPI.getJob(id);
           if (jobToEdit) {
             setFormData({
               company: jobToEdit.company || "",
@@ -26,10 +26,10 @@ function UserDashboard() {
       setUser(currentUser);
 
       const statsData = await jobAPI.getDashboardStats(currentUser.id);
-      const jobsData = await jobAPI.getUserJobs(currentUser.id);
+      const jobsData = await jobAPI.getUserJobs(currentUser.id, { size: 5 });
 
       setStats(statsData);
-      setJobs(jobsData.slice(0, 5)); // show recent 5 jobs
+      setJobs(jobsData.items); // show recent 5 jobs
     } catch (err) {
       console.error("Dashboard error:", err);
       if (err.message.includes("Unauthorized")) {
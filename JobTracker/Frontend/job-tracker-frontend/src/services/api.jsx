@@ -106,8 +106,21 @@ export const authAPI = {
 
 // ===== JOB =====
 export const jobAPI = {
-  getUserJobs: async (userId) => {
-    const res = await fetch(`${API_BASE_URL}/jobs/user/${userId}`, {
+  // Returns one keyset page: { items, nextCursor, hasMore, size, sort }
+  getUserJobs: async (userId, { cursor, size, sort } = {}) => {
+    const params = new URLSearchParams();
+    if (cursor) params.set("cursor", cursor);
+    if (size) params.set("size", size);
+    if (sort) params.set("sort", sort);
+    const query = params.toString() ? `?${params}` : "";
+    const res = await fetch(`${API_BASE_URL}/jobs/user/${userId}${query}`, {
+      headers: getAuthHeader(),
+    });
+    return handleResponse(res);
+  },
+
+  getJob: async (jobId) => {
+    const res = await fetch(`${API_BASE_URL}/jobs/${jobId}`, {
       headers: getAuthHeader(),
     });
     return handleResponse(res);
@@ -0,0 +1,125 @@
+package com.example.JobTracker.benchmarks;
+
+import com.example.JobTracker.Model.Job;
+import com.example.JobTracker.Model.User;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+// Wires application beans by hand so benchmarks measure the code, not a Spring context
+final class BenchmarkFixtures {
+
+    private static final String[] COMPANIES = {"Acme", "Globex", "Initech", "Umbrella", "Hooli", "Stark Industries"};
+    private static final String[] ROLES = {"Backend Engineer", "Frontend Developer", "Data Analyst", "SRE", "Product Manager"};
+    private static final String[] SOURCES = {"LinkedIn", "Referral", "Indeed", "Company Site", "Glassdoor"};
+    private static final String[] STATUSES = {"Applied", "Interview", "Offer", "Rejected"};
+
+    private BenchmarkFixtures() {}
+
+    static void inject(Object target, String field, Object value) {
+        try {
+            Field f = findField(target.getClass(), field);
+            f.setAccessible(true);
+            f.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set " + field, e);
+        }
+    }
+
+    // For DTOs whose no-arg constructor is package-private
+    static <T> T newInstance(Class<T> type) {
+        try {
+            Constructor<T> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create " + type.getSimpleName(), e);
+        }
+    }
+
+    static Object invoke(Object target, String method, Class<?>[] types, Object... args) {
+        try {
+            Method m = target.getClass().getDeclaredMethod(method, types);
+            m.setAccessible(true);
+            return m.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot call " + method, e);
+        }
+    }
+
+    // Repository stand-in answering only the named methods
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return method.getName().equals("toString") ? type.getSimpleName() + "Stub"
+                        : method.getName().equals("hashCode") ? System.identityHashCode(proxy)
+                        : proxy == args[0];
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    static List<Job> jobs(long userId, int count) {
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+        List<Job> jobs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Job job = new Job(
+                    userId,
+                    COMPANIES[random.nextInt(COMPANIES.length)],
+                    ROLES[random.nextInt(ROLES.length)],
+                    today.minusDays(random.nextInt(365)),
+                    SOURCES[random.nextInt(SOURCES.length)],
+                    STATUSES[random.nextInt(STATUSES.length)]
+            );
+            job.setId((long) i + 1);
+            job.setDeadline(today.plusDays(random.nextInt(30)));
+            job.setCreatedAt(LocalDateTime.now());
+            job.setUpdatedAt(LocalDateTime.now());
+            jobs.add(job);
+        }
+        return jobs;
+    }
+
+    static User user() {
+        User user = new User("Jane Doe", "jane.doe@example.com", "Secret123");
+        user.setId(7L);
+        user.setRole("USER");
+        user.setIsActive(true);
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        user.setLastLogin(LocalDateTime.now());
+        return user;
+    }
+
+    private static Field findField(Class<?> type, String name) throws NoSuchFieldException {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            try {
+                return c.getDeclaredField(name);
+            } catch (NoSuchFieldException ignored) {
+                // keep walking up
+            }
+        }
+        throw new NoSuchFieldException(name);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.JobTracker.benchmarks;
+
+import com.example.JobTracker.Model.Job;
+import com.example.JobTracker.Repository.JobRepository;
+import com.example.JobTracker.Service.JobService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Exercises the single-pass in-memory aggregation over a user's jobs (no database)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DashboardStatsBenchmark {
+
+    @Param({"100", "10000"})
+    public int jobCount;
+
+    private JobService jobService;
+
+    @Setup
+    public void setUp() {
+        List<Job> jobs = BenchmarkFixtures.jobs(7L, jobCount);
+
+        jobService = new JobService();
+        BenchmarkFixtures.inject(jobService, "jobRepository", BenchmarkFixtures.stub(JobRepository.class,
+                Map.of("findByUserId", args -> jobs)));
+        BenchmarkFixtures.inject(jobService, "dashboardMonths", 6);
+        BenchmarkFixtures.inject(jobService, "dashboardAggregation", JobService.AGGREGATION_MEMORY);
+    }
+
+    @Benchmark
+    public Map<String, Object> userDashboardStats() {
+        return jobService.getUserDashboardStats(7L);
+    }
+}
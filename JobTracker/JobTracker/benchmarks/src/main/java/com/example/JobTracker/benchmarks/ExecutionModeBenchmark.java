@@ -0,0 +1,84 @@
+package com.example.JobTracker.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Models a burst of blocking requests served by Tomcat's default 200 platform threads vs one
+// virtual thread per request. Each request blocks on a "query" behind a pool-sized semaphore
+// (what DbConcurrencyLimiter does in front of Hikari) plus some non-DB blocking I/O.
+// SampleTime reports burst completion percentiles, so p0.99 is the tail of a whole burst;
+// see the load-test suite (-Dloadtest.virtual-threads) for the end-to-end comparison.
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExecutionModeBenchmark {
+
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"500", "2000"})
+    public int burst;
+
+    @Param({"10"})
+    public int poolSize;
+
+    @Param({"2"})
+    public long queryMillis;
+
+    @Param({"5"})
+    public long ioMillis;
+
+    private ExecutorService executor;
+    private Semaphore connections;
+
+    @Setup
+    public void setUp() {
+        executor = "virtual".equals(mode)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_THREADS);
+        connections = new Semaphore(poolSize, true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int serveBurst() throws Exception {
+        List<Future<Integer>> results = new ArrayList<>(burst);
+        for (int i = 0; i < burst; i++) {
+            results.add(executor.submit(this::handleRequest));
+        }
+        int done = 0;
+        for (Future<Integer> result : results) {
+            done += result.get();
+        }
+        return done;
+    }
+
+    private int handleRequest() throws InterruptedException {
+        // Token check, downstream calls, response write
+        Thread.sleep(ioMillis);
+
+        connections.acquire();
+        try {
+            Thread.sleep(queryMillis);
+        } finally {
+            connections.release();
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.JobTracker.benchmarks;
+
+import com.example.JobTracker.util.JwtClaims;
+import com.example.JobTracker.util.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        BenchmarkFixtures.inject(jwtUtil, "secret", "mySecretKeyForJobTrackerApplicationVeryLongAndSecure123456789");
+        BenchmarkFixtures.inject(jwtUtil, "expiration", 86_400_000L);
+        BenchmarkFixtures.inject(jwtUtil, "keyId", "k1");
+        BenchmarkFixtures.inject(jwtUtil, "previousKeys", new String[0]);
+        BenchmarkFixtures.invoke(jwtUtil, "init", new Class<?>[0]);
+
+        token = jwtUtil.generateToken(7L, "jane.doe@example.com", "USER");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(7L, "jane.doe@example.com", "USER");
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public Long extractUserId() {
+        return jwtUtil.extractUserId(token);
+    }
+
+    @Benchmark
+    public String extractEmail() {
+        return jwtUtil.extractEmail(token);
+    }
+
+    @Benchmark
+    public String extractRole() {
+        return jwtUtil.extractRole(token);
+    }
+
+    @Benchmark
+    public JwtClaims parseOnce() {
+        return jwtUtil.parseOnce(token);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.JobTracker.benchmarks;
+
+import com.example.JobTracker.DTO.JobResponse;
+import com.example.JobTracker.DTO.UserResponse;
+import com.example.JobTracker.Mapper.JobMapper;
+import com.example.JobTracker.Mapper.JobMapperImpl;
+import com.example.JobTracker.Mapper.UserMapper;
+import com.example.JobTracker.Mapper.UserMapperImpl;
+import com.example.JobTracker.Model.Job;
+import com.example.JobTracker.Model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final JobMapper jobMapper = new JobMapperImpl();
+    private final UserMapper userMapper = new UserMapperImpl();
+
+    private Job job;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        job = BenchmarkFixtures.jobs(7L, 1).get(0);
+        user = BenchmarkFixtures.user();
+    }
+
+    @Benchmark
+    public JobResponse jobToResponse() {
+        return jobMapper.toResponse(job);
+    }
+
+    @Benchmark
+    public UserResponse userToResponse() {
+        return userMapper.toresponse(user);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.JobTracker.benchmarks;
+
+import com.example.JobTracker.DTO.JobResponse;
+import com.example.JobTracker.Mapper.JobMapper;
+import com.example.JobTracker.Mapper.JobMapperImpl;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.cfg.MapperBuilder;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+// Jackson 3 mappers configured like the server's converters. json: Jackson defaults, nulls written;
+// lean: nulls skipped (spring.jackson.default-property-inclusion=non_null); cbor: lean, binary
+// (Accept: application/cbor).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    // 20 is the default page size; 1000 approximates the old unpaged list
+    @Param({"20", "1000"})
+    public int listSize;
+
+    @Param({"json", "lean", "cbor"})
+    public String format;
+
+    private ObjectMapper objectMapper;
+    private List<JobResponse> jobs;
+
+    @Setup
+    public void setUp() {
+        MapperBuilder<?, ?> builder = "cbor".equals(format) ? CBORMapper.builder() : JsonMapper.builder();
+        builder.findAndAddModules();
+        if (!"json".equals(format)) {
+            builder.changeDefaultPropertyInclusion(inclusion -> inclusion.withValueInclusion(JsonInclude.Include.NON_NULL));
+        }
+        objectMapper = builder.build();
+
+        JobMapper jobMapper = new JobMapperImpl();
+        jobs = BenchmarkFixtures.jobs(7L, listSize).stream()
+                .map(jobMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] serializeJobList() {
+        return objectMapper.writeValueAsBytes(jobs);
+    }
+
+    // What the server pays per response with server.compression on
+    @Benchmark
+    public byte[] serializeAndGzip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, jobs);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.JobTracker.benchmarks;
+
+import com.example.JobTracker.DTO.JobRequest;
+import com.example.JobTracker.DTO.RegisterRequest;
+import com.example.JobTracker.validation.RequestValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private RequestValidator validator;
+    private RegisterRequest valid;
+    private RegisterRequest invalid;
+    private JobRequest job;
+
+    @Setup
+    public void setUp() {
+        validator = new RequestValidator();
+
+        valid = request("Jane Doe", "jane.doe@example.com", "Secret123");
+        invalid = request("J", "not-an-email", "lowercase1");
+
+        job = BenchmarkFixtures.newInstance(JobRequest.class);
+        job.setCompany("Acme Corp");
+        job.setRole("Backend Engineer");
+        job.setAppliedDate(LocalDate.of(2024, 3, 1));
+        job.setSource("LinkedIn");
+        job.setStatus("Applied");
+    }
+
+    @Benchmark
+    public Object validRegistration() {
+        return validator.registrationErrors(valid);
+    }
+
+    @Benchmark
+    public Object invalidRegistration() {
+        return validator.registrationErrors(invalid);
+    }
+
+    @Benchmark
+    public Object validJob() {
+        return validator.jobErrors(job);
+    }
+
+    private static RegisterRequest request(String name, String email, String password) {
+        RegisterRequest request = BenchmarkFixtures.newInstance(RegisterRequest.class);
+        request.setName(name);
+        request.setEmail(email);
+        request.setPassword(password);
+        return request;
+    }
+}
@@ -3,12 +3,18 @@ package com.example.JobTracker.Controller;
 import com.example.JobTracker.CustomException.UnauthorizedAccessException;
 import com.example.JobTracker.DTO.*;
 import com.example.JobTracker.Service.AdminService;
+import com.example.JobTracker.Service.ExportService;
+import com.example.JobTracker.health.ReadinessMonitor;
+import com.example.JobTracker.config.Bulkhead;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
 import java.util.Map;
 
@@ -20,6 +26,12 @@ public class AdminController {
     @Autowired
     private AdminService adminService;
 
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private ReadinessMonitor readinessMonitor;
+
     @ModelAttribute
     public void verifyAdmin(HttpServletRequest request) {
         String path = request.getRequestURI();
@@ -42,12 +54,34 @@ public class AdminController {
     }
 
 
+    @Bulkhead("admin")
     @GetMapping("/users")
     public ResponseEntity<List<UserResponse>> getAllUsers() {
         List<UserResponse> users = adminService.getAllUsers();
         return ResponseEntity.ok(users);
     }
 
+    @Bulkhead("export")
+    @GetMapping("/users/export")
+    public void exportUsers(@RequestParam(required = false) String format,
+                            HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        String resolved = exportService.resolveFormat(format);
+        Writer writer = exportService.openResponse(request, response, "users", resolved);
+        exportService.exportUsers(resolved, writer);
+    }
+
+    @Bulkhead("export")
+    @GetMapping("/users/{userId}/jobs/export")
+    public void exportUserJobs(@PathVariable Long userId,
+                               @RequestParam(required = false) String format,
+                               HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+        String resolved = exportService.resolveFormat(format);
+        Writer writer = exportService.openResponse(request, response, "jobs-" + userId, resolved);
+        exportService.exportJobs(userId, resolved, writer);
+    }
+
     @GetMapping("/users/{userId}")
     public ResponseEntity<UserResponse> getUserById(@PathVariable Long userId) {
         UserResponse user = adminService.getUserById(userId);
@@ -55,78 +89,69 @@ public class AdminController {
     }
 
     @PutMapping("/users/{userId}/make-admin")
-    public ResponseEntity<Map<String, Object>> makeUserAdmin(@PathVariable Long userId) {
+    public ResponseEntity<UserApiResponse> makeUserAdmin(@PathVariable Long userId) {
         UserResponse user = adminService.makeUserAdmin(userId);
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
-        response.put("message", "User granted admin privileges");
-        response.put("user", user);
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(new UserApiResponse(true, "User granted admin privileges", user));
     }
 
     @PutMapping("/users/{userId}/revoke-admin")
-    public ResponseEntity<Map<String, Object>> revokeAdminAccess(@PathVariable Long userId) {
+    public ResponseEntity<UserApiResponse> revokeAdminAccess(@PathVariable Long userId) {
         UserResponse user = adminService.revokeAdminAccess(userId);
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
-        response.put("message", "Admin privileges revoked");
-        response.put("user", user);
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(new UserApiResponse(true, "Admin privileges revoked", user));
     }
 
     @PutMapping("/users/{userId}/deactivate")
-    public ResponseEntity<Map<String, Object>> deactivateUser(@PathVariable Long userId) {
+    public ResponseEntity<UserApiResponse> deactivateUser(@PathVariable Long userId) {
         UserResponse user = adminService.deactivateUser(userId);
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
-        response.put("message", "User account deactivated");
-        response.put("user", user);
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(new UserApiResponse(true, "User account deactivated", user));
     }
 
     @PutMapping("/users/{userId}/activate")
-    public ResponseEntity<Map<String, Object>> activateUser(@PathVariable Long userId) {
+    public ResponseEntity<UserApiResponse> activateUser(@PathVariable Long userId) {
         UserResponse user = adminService.activateUser(userId);
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
-        response.put("message", "User account activated");
-        response.put("user", user);
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(new UserApiResponse(true, "User account activated", user));
     }
 
     @DeleteMapping("/users/{userId}")
-    public ResponseEntity<Map<String, Object>> deleteUser(@PathVariable Long userId) {
+    public ResponseEntity<ApiResponse> deleteUser(@PathVariable Long userId) {
         adminService.deleteUser(userId);
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
-        response.put("message", "User deleted successfully");
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(new ApiResponse(true, "User deleted successfully"));
     }
 
 
+    @Bulkhead("admin")
     @GetMapping("/statistics")
     public ResponseEntity<AdminStatsResponse> getStatistics() {
         AdminStatsResponse stats = adminService.getAdminStatistics();
         return ResponseEntity.ok(stats);
     }
 
+    @Bulkhead("admin")
+    @PostMapping("/job-stats/rebuild")
+    public ResponseEntity<ApiResponse> rebuildJobStats() {
+        adminService.rebuildJobStats();
+
+        return ResponseEntity.ok(new ApiResponse(true, "Job statistics will be rebuilt on next read"));
+    }
+
+    @GetMapping("/cache-stats")
+    public ResponseEntity<Map<String, Object>> getCacheStatistics() {
+        Map<String, Object> stats = adminService.getCacheStatistics();
+        return ResponseEntity.ok(stats);
+    }
+
 
 
     @GetMapping("/health")
-    public ResponseEntity<Map<String, String>> healthCheck() {
-        Map<String, String> response = new HashMap<>();
-        response.put("status", "UP");
+    public ResponseEntity<Map<String, Object>> healthCheck() {
+        Map<String, Object> response = readinessMonitor.snapshot();
         response.put("message", "Admin service is running");
-        return ResponseEntity.ok(response);
+        HttpStatus status = readinessMonitor.isReady() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(response);
     }
 }
\ No newline at end of file
@@ -1,17 +1,41 @@
 package com.example.JobTracker.Controller;
 
+import com.example.JobTracker.DTO.ApiResponse;
+import com.example.JobTracker.DTO.BulkImportResponse;
+import com.example.JobTracker.DTO.JobApiResponse;
+import com.example.JobTracker.DTO.JobPageResponse;
 import com.example.JobTracker.DTO.JobRequest;
 import com.example.JobTracker.DTO.JobResponse;
+import com.example.JobTracker.DTO.StreamTokenResponse;
 import com.example.JobTracker.CustomException.JobNotFoundException;
+import com.example.JobTracker.CustomException.ServiceBusyException;
+import com.example.JobTracker.CustomException.ValidationException;
+import com.example.JobTracker.Service.ExportService;
+import com.example.JobTracker.Service.JobImportService;
 import com.example.JobTracker.Service.JobService;
+import com.example.JobTracker.Service.JobVersionService;
+import com.example.JobTracker.events.JobEventBroadcaster;
+import com.example.JobTracker.health.ReadinessMonitor;
+import com.example.JobTracker.config.Bulkhead;
+import com.example.JobTracker.util.JwtUtil;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.HashMap;
-import java.util.List;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.YearMonth;
+import java.time.ZoneId;
 import java.util.Map;
 
 @RestController
@@ -22,26 +46,78 @@ public class JobController {
     @Autowired
     private JobService jobService;
 
+    @Autowired
+    private JobImportService jobImportService;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private ReadinessMonitor readinessMonitor;
+
+    @Autowired
+    private JobVersionService jobVersionService;
+
+    @Autowired
+    private JobEventBroadcaster jobEventBroadcaster;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ContentNegotiationManager contentNegotiationManager;
+
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<JobResponse>> getAllJobs(@PathVariable Long userId) {
-        List<JobResponse> jobs = jobService.getAllJobsByUserId(userId);
+    public ResponseEntity<JobPageResponse> getAllJobs(@PathVariable Long userId,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(required = false) Integer size,
+                                                      @RequestParam(required = false) String sort,
+                                                      ServletWebRequest webRequest) {
+        if (notModified(webRequest, jobVersionService.current(userId), null, 0)) {
+            return null;
+        }
+        JobPageResponse jobs = jobService.getAllJobsByUserId(userId, cursor, size, sort);
         return ResponseEntity.ok(jobs);
     }
 
+    // Live job changes for the signed-in user (see JobEventBroadcaster); replaces dashboard polling
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamJobEvents(HttpServletRequest request,
+                                                      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        Long userId = (Long) request.getAttribute("userId");
+        try {
+            return ResponseEntity.ok(jobEventBroadcaster.subscribe(userId, lastEventId));
+        } catch (ServiceBusyException e) {
+            // No JSON body: the client only accepts text/event-stream
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build();
+        }
+    }
+
+    // Short-lived token for EventSource clients, which cannot set headers:
+    // new EventSource("/api/jobs/stream?access_token=" + token). Mint a fresh one for every (re)connect.
+    @PostMapping("/stream-token")
+    public ResponseEntity<StreamTokenResponse> issueStreamToken(HttpServletRequest request) {
+        Long userId = (Long) request.getAttribute("userId");
+        String email = (String) request.getAttribute("email");
+        String role = (String) request.getAttribute("role");
+        String token = jwtUtil.generateStreamToken(userId, email, role);
+        return ResponseEntity.ok(new StreamTokenResponse(token, jwtUtil.getStreamTokenExpiration() / 1000));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> getJobById(@PathVariable Long id) {
         try {
             JobResponse job = jobService.getJobById(id);
             return ResponseEntity.ok(job);
         } catch (JobNotFoundException e) {
-            Map<String, String> error = new HashMap<>();
-            error.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse(e.getMessage()));
         }
     }
 
     @PostMapping
-    public ResponseEntity<Map<String, Object>> addJob(
+    public ResponseEntity<ApiResponse> addJob(
             @RequestBody JobRequest dto,
             HttpServletRequest request
     ) {
@@ -50,87 +126,152 @@ public class JobController {
 
             JobResponse savedJob = jobService.addJob(dto, userId);
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Job application added successfully");
-            response.put("job", savedJob);
-
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(new JobApiResponse(true, "Job application added successfully", savedJob));
+        } catch (ServiceBusyException | ValidationException e) {
+            throw e;
         } catch (Exception e) {
-            Map<String, Object> error = new HashMap<>();
-            error.put("success", false);
-            error.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ApiResponse(false, e.getMessage()));
         }
     }
 
+    // Body is either a JSON array of jobs or CSV with a header row (Content-Type: text/csv)
+    @Bulkhead("import")
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, "text/csv"})
+    public ResponseEntity<BulkImportResponse> bulkImport(HttpServletRequest request) throws IOException {
+        Long userId = (Long) request.getAttribute("userId");
+
+        BulkImportResponse report;
+        String contentType = request.getContentType();
+        if (contentType != null && contentType.toLowerCase().startsWith("text/csv")) {
+            report = jobImportService.importCsv(request.getReader(), userId);
+        } else {
+            report = jobImportService.importJson(request.getInputStream(), userId);
+        }
+
+        HttpStatus status = report.getImported() > 0 ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(report);
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> updateJob(@PathVariable Long id,
-                                                         @RequestBody JobRequest dto) {
+    public ResponseEntity<ApiResponse> updateJob(@PathVariable Long id,
+                                                 @RequestBody JobRequest dto) {
         try {
             JobResponse updatedJob = jobService.updateJob(id, dto);
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Job application updated successfully");
-            response.put("job", updatedJob);
-
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(new JobApiResponse(true, "Job application updated successfully", updatedJob));
         } catch (JobNotFoundException e) {
-            Map<String, Object> error = new HashMap<>();
-            error.put("success", false);
-            error.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse(false, e.getMessage()));
         }
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> deleteJob(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse> deleteJob(@PathVariable Long id) {
         try {
             jobService.deleteJob(id);
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Job application deleted successfully");
-
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(new ApiResponse(true, "Job application deleted successfully"));
         } catch (JobNotFoundException e) {
-            Map<String, Object> error = new HashMap<>();
-            error.put("success", false);
-            error.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse(false, e.getMessage()));
         }
     }
 
     @GetMapping("/user/{userId}/status/{status}")
-    public ResponseEntity<List<JobResponse>> getJobsByStatus(@PathVariable Long userId,
-                                                             @PathVariable String status) {
-        List<JobResponse> jobs = jobService.getJobsByStatus(userId, status);
+    public ResponseEntity<JobPageResponse> getJobsByStatus(@PathVariable Long userId,
+                                                           @PathVariable String status,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(required = false) Integer size,
+                                                           @RequestParam(required = false) String sort) {
+        JobPageResponse jobs = jobService.getJobsByStatus(userId, status, cursor, size, sort);
+        return ResponseEntity.ok(jobs);
+    }
+
+    @GetMapping("/user/{userId}/source/{source}")
+    public ResponseEntity<JobPageResponse> getJobsBySource(@PathVariable Long userId,
+                                                           @PathVariable String source,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(required = false) Integer size,
+                                                           @RequestParam(required = false) String sort) {
+        JobPageResponse jobs = jobService.getJobsBySource(userId, source, cursor, size, sort);
         return ResponseEntity.ok(jobs);
     }
 
     @GetMapping("/user/{userId}/search")
-    public ResponseEntity<List<JobResponse>> searchJobs(@PathVariable Long userId,
-                                                        @RequestParam String keyword) {
-        List<JobResponse> jobs = jobService.searchJobs(userId, keyword);
+    public ResponseEntity<JobPageResponse> searchJobs(@PathVariable Long userId,
+                                                      @RequestParam String keyword,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(required = false) Integer size,
+                                                      @RequestParam(required = false) String sort) {
+        JobPageResponse jobs = jobService.searchJobs(userId, keyword, cursor, size, sort);
         return ResponseEntity.ok(jobs);
     }
 
+    @Bulkhead("export")
+    @GetMapping("/user/{userId}/export")
+    public void exportJobs(@PathVariable Long userId,
+                           @RequestParam(required = false) String format,
+                           HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        String resolved = exportService.resolveFormat(format);
+        Writer writer = exportService.openResponse(request, response, "jobs-" + userId, resolved);
+        exportService.exportJobs(userId, resolved, writer);
+    }
+
     @GetMapping("/user/{userId}/stats")
-    public ResponseEntity<Map<String, Object>> getStats(@PathVariable Long userId) {
+    public ResponseEntity<Map<String, Object>> getStats(@PathVariable Long userId, ServletWebRequest webRequest) {
+        if (notModified(webRequest, jobVersionService.current(userId), null, 0)) {
+            return null;
+        }
         Map<String, Object> stats = jobService.getStatistics(userId);
         return ResponseEntity.ok(stats);
     }
     @GetMapping("/user/{userId}/dashboard-stats")
-    public ResponseEntity<Map<String, Object>> getDashboardStats(@PathVariable Long userId) {
+    public ResponseEntity<Map<String, Object>> getDashboardStats(@PathVariable Long userId, ServletWebRequest webRequest) {
+        // The monthly window moves with the calendar even when no job changes
+        YearMonth month = YearMonth.now();
+        long monthStart = month.atDay(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (notModified(webRequest, jobVersionService.current(userId), month.toString(), monthStart)) {
+            return null;
+        }
         Map<String, Object> stats = jobService.getUserDashboardStats(userId);
         return ResponseEntity.ok(stats);
     }
+
+    // Sets ETag, Last-Modified and Cache-Control (browsers must revalidate, never reuse blindly) and
+    // answers 304 when the client already holds this version; the caller then skips its queries.
+    // JSON and CBOR bodies of one version differ, so the ETag names the format and varies on Accept.
+    private boolean notModified(ServletWebRequest webRequest, JobVersionService.Version version,
+                                String variant, long notBefore) {
+        HttpServletResponse response = webRequest.getResponse();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        String format = negotiatedFormat(webRequest);
+        long lastModified = version.lastModified() >= 0 ? Math.max(version.lastModified(), notBefore) : -1;
+        return webRequest.checkNotModified(version.etag(variant != null ? format + "-" + variant : format), lastModified);
+    }
+
+    // Same choice the message converters make: the first acceptable type wins, JSON before CBOR
+    private String negotiatedFormat(ServletWebRequest webRequest) {
+        try {
+            for (MediaType accepted : contentNegotiationManager.resolveMediaTypes(webRequest)) {
+                if (accepted.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                    return "json";
+                }
+                if (accepted.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                    return "cbor";
+                }
+            }
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            // Unparseable Accept header; the converters will answer 406 anyway
+        }
+        return "json";
+    }
+
     @GetMapping("/health")
-    public ResponseEntity<Map<String, String>> healthCheck() {
-        Map<String, String> response = new HashMap<>();
-        response.put("status", "UP");
+    public ResponseEntity<Map<String, Object>> healthCheck() {
+        Map<String, Object> response = readinessMonitor.snapshot();
         response.put("message", "Job Tracker API is running");
-        return ResponseEntity.ok(response);
+        HttpStatus status = readinessMonitor.isReady() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(response);
     }
 }
\ No newline at end of file
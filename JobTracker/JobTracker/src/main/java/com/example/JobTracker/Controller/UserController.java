@@ -3,13 +3,13 @@ package com.example.JobTracker.Controller;
 import com.example.JobTracker.DTO.*;
 import com.example.JobTracker.CustomException.*;
 import com.example.JobTracker.Service.UserService;
+import com.example.JobTracker.health.ReadinessMonitor;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -21,23 +21,15 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private ReadinessMonitor readinessMonitor;
+
     @PostMapping("/register")
-    public ResponseEntity<Map<String, Object>> registerUser(@RequestBody RegisterRequest dto) {
-        try {
-            UserResponse user = userService.registerUser(dto);
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "User registered successfully");
-            response.put("user", user);
-
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
-        } catch (EmailAlreadyExistsException e) {
-            Map<String, Object> error = new HashMap<>();
-            error.put("success", false);
-            error.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
-        }
+    public ResponseEntity<ApiResponse> registerUser(@RequestBody RegisterRequest dto) {
+        UserResponse user = userService.registerUser(dto);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new UserApiResponse(true, "User registered successfully", user));
     }
 
     @PostMapping("/login")
@@ -63,9 +55,7 @@ public class UserController {
             UserResponse user = userService.getUserById(id);
             return ResponseEntity.ok(user);
         } catch (UserNotFoundException e) {
-            Map<String, String> error = new HashMap<>();
-            error.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse(e.getMessage()));
         }
     }
 
@@ -75,9 +65,7 @@ public class UserController {
             UserResponse user = userService.getUserByEmail(email);
             return ResponseEntity.ok(user);
         } catch (UserNotFoundException e) {
-            Map<String, String> error = new HashMap<>();
-            error.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse(e.getMessage()));
         }
     }
 
@@ -86,98 +74,68 @@ public class UserController {
         Long userId = (Long) request.getAttribute("userId");
 
         if (userId == null) {
-            Map<String, String> error = new HashMap<>();
-            error.put("message", "Unauthorized - Token required");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new ApiResponse("Unauthorized - Token required"));
         }
 
         try {
             UserResponse user = userService.getUserById(userId);
             return ResponseEntity.ok(user);
         } catch (UserNotFoundException e) {
-            Map<String, String> error = new HashMap<>();
-            error.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse(e.getMessage()));
         }
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> updateUser(@PathVariable Long id,
-                                                          @RequestBody UpdateUserRequest dto) {
+    public ResponseEntity<ApiResponse> updateUser(@PathVariable Long id,
+                                                  @RequestBody UpdateUserRequest dto) {
         try {
             UserResponse updatedUser = userService.updateUser(id, dto);
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Profile updated successfully");
-            response.put("user", updatedUser);
-
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(new UserApiResponse(true, "Profile updated successfully", updatedUser));
         } catch (UserNotFoundException e) {
-            Map<String, Object> error = new HashMap<>();
-            error.put("success", false);
-            error.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse(false, e.getMessage()));
         }
     }
 
     @PutMapping("/{id}/change-password")
-    public ResponseEntity<Map<String, Object>> changePassword(@PathVariable Long id,
-                                                              @RequestBody ChangePasswordRequest dto) {
+    public ResponseEntity<ApiResponse> changePassword(@PathVariable Long id,
+                                                      @RequestBody ChangePasswordRequest dto) {
         try {
             userService.changePassword(id, dto);
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Password changed successfully");
-
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(new ApiResponse(true, "Password changed successfully"));
         } catch (UserNotFoundException | InvalidCredentialsException e) {
-            Map<String, Object> error = new HashMap<>();
-            error.put("success", false);
-            error.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ApiResponse(false, e.getMessage()));
         }
     }
 
     @PutMapping("/{id}/deactivate")
-    public ResponseEntity<Map<String, Object>> deactivateUser(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse> deactivateUser(@PathVariable Long id) {
         try {
             UserResponse user = userService.deactivateUser(id);
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Account deactivated successfully");
-            response.put("user", user);
-
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(new UserApiResponse(true, "Account deactivated successfully", user));
         } catch (UserNotFoundException e) {
-            Map<String, Object> error = new HashMap<>();
-            error.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse(e.getMessage()));
         }
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Map<String, String>> deleteUser(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse> deleteUser(@PathVariable Long id) {
         try {
             userService.deleteUser(id);
 
-            Map<String, String> response = new HashMap<>();
-            response.put("message", "User deleted successfully");
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(new ApiResponse("User deleted successfully"));
         } catch (UserNotFoundException e) {
-            Map<String, String> error = new HashMap<>();
-            error.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse(e.getMessage()));
         }
     }
 
     @GetMapping("/health")
-    public ResponseEntity<Map<String, String>> healthCheck() {
-        Map<String, String> response = new HashMap<>();
-        response.put("status", "UP");
+    public ResponseEntity<Map<String, Object>> healthCheck() {
+        Map<String, Object> response = readinessMonitor.snapshot();
         response.put("message", "User service is running");
-        return ResponseEntity.ok(response);
+        HttpStatus status = readinessMonitor.isReady() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(response);
     }
 }
\ No newline at end of file
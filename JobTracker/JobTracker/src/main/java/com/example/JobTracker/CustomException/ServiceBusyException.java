@@ -0,0 +1,11 @@
+package com.example.JobTracker.CustomException;
+
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException() {
+        super("Service is busy, please retry");
+    }
+
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -2,6 +2,8 @@ package com.example.JobTracker.DTO;
 
 
 import com.example.JobTracker.Model.Admin;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
 import java.time.LocalDateTime;
 
 public class AdminResponse {
@@ -10,7 +12,9 @@ public class AdminResponse {
     private String email;
     private String role;
     private Boolean isActive;
+    @JsonFormat(pattern = ApiResponse.DATE_TIME)
     private LocalDateTime createdAt;
+    @JsonFormat(pattern = ApiResponse.DATE_TIME)
     private LocalDateTime lastLogin;
 
     public AdminResponse() {}
@@ -0,0 +1,42 @@
+package com.example.JobTracker.DTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Typed body for controller replies: {"success", "message"} plus the payload field of a subclass.
+// Unset fields are left out, so message-only replies stay {"message": ...}.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ApiResponse {
+
+    // Timestamps go out to the second, without the fraction LocalDateTime.now() carries
+    public static final String DATE_TIME = "yyyy-MM-dd'T'HH:mm:ss";
+
+    private Boolean success;
+    private String message;
+
+    public ApiResponse() {}
+
+    public ApiResponse(String message) {
+        this.message = message;
+    }
+
+    public ApiResponse(Boolean success, String message) {
+        this.success = success;
+        this.message = message;
+    }
+
+    public Boolean getSuccess() {
+        return success;
+    }
+
+    public void setSuccess(Boolean success) {
+        this.success = success;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
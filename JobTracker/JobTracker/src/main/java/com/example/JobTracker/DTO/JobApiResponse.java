@@ -0,0 +1,20 @@
+package com.example.JobTracker.DTO;
+
+public class JobApiResponse extends ApiResponse {
+    private JobResponse job;
+
+    public JobApiResponse() {}
+
+    public JobApiResponse(Boolean success, String message, JobResponse job) {
+        super(success, message);
+        this.job = job;
+    }
+
+    public JobResponse getJob() {
+        return job;
+    }
+
+    public void setJob(JobResponse job) {
+        this.job = job;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.JobTracker.DTO;
+
+import java.util.List;
+
+public class JobPageResponse {
+    private List<JobResponse> items;
+    private String nextCursor;
+    private boolean hasMore;
+    private int size;
+    private String sort;
+
+    public JobPageResponse() {}
+
+    public JobPageResponse(List<JobResponse> items, String nextCursor, boolean hasMore, int size, String sort) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+        this.size = size;
+        this.sort = sort;
+    }
+
+    public List<JobResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<JobResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+}
@@ -2,6 +2,8 @@ package com.example.JobTracker.DTO;
 
 
 import com.example.JobTracker.Model.Job;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -14,7 +16,9 @@ public class JobResponse {
     private String source;
     private String status;
     private LocalDate deadline;
+    @JsonFormat(pattern = ApiResponse.DATE_TIME)
     private LocalDateTime createdAt;
+    @JsonFormat(pattern = ApiResponse.DATE_TIME)
     private LocalDateTime updatedAt;
 
     public JobResponse() {}
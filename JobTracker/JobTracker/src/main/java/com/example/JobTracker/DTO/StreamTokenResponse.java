@@ -0,0 +1,30 @@
+package com.example.JobTracker.DTO;
+
+public class StreamTokenResponse extends ApiResponse {
+    private String token;
+    private long expiresInSeconds;
+
+    public StreamTokenResponse() {}
+
+    public StreamTokenResponse(String token, long expiresInSeconds) {
+        super(true, "Stream token issued");
+        this.token = token;
+        this.expiresInSeconds = expiresInSeconds;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public long getExpiresInSeconds() {
+        return expiresInSeconds;
+    }
+
+    public void setExpiresInSeconds(long expiresInSeconds) {
+        this.expiresInSeconds = expiresInSeconds;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.JobTracker.DTO;
+
+public class UserApiResponse extends ApiResponse {
+    private UserResponse user;
+
+    public UserApiResponse() {}
+
+    public UserApiResponse(Boolean success, String message, UserResponse user) {
+        super(success, message);
+        this.user = user;
+    }
+
+    public UserResponse getUser() {
+        return user;
+    }
+
+    public void setUser(UserResponse user) {
+        this.user = user;
+    }
+}
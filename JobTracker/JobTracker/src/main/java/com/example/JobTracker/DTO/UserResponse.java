@@ -1,5 +1,7 @@
 package com.example.JobTracker.DTO;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+
 import java.time.LocalDateTime;
 
 public class UserResponse {
@@ -8,7 +10,9 @@ public class UserResponse {
     private String email;
     private String role;
     private Boolean isActive;
+    @JsonFormat(pattern = ApiResponse.DATE_TIME)
     private LocalDateTime createdAt;
+    @JsonFormat(pattern = ApiResponse.DATE_TIME)
     private LocalDateTime lastLogin;
 
     public UserResponse(){}
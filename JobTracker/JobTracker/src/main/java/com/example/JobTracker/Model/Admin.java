@@ -33,7 +33,8 @@ public class Admin {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
-    @Column(name = "last_login")
+    // Only LastLoginRecorder writes this column, so entity saves never roll it back
+    @Column(name = "last_login", updatable = false)
     private LocalDateTime lastLogin;
 
     public Admin() {
@@ -5,7 +5,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+        @Index(name = "idx_jobs_user_applied", columnList = "user_id, applied_date"),
+        @Index(name = "idx_jobs_user_status_applied", columnList = "user_id, status, applied_date"),
+        @Index(name = "idx_jobs_user_source_applied", columnList = "user_id, source, applied_date")
+})
 public class Job {
 
     @Id
@@ -0,0 +1,37 @@
+package com.example.JobTracker.Model;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "job_stats")
+public class JobStat {
+
+    public static final String TOTAL = "total";
+    public static final String STATUS = "status";
+    public static final String SOURCE = "source";
+    public static final String MONTH = "month";
+
+    @EmbeddedId
+    private JobStatId id;
+
+    @Column(name = "job_count", nullable = false)
+    private Long jobCount;
+
+    public JobStat() {}
+
+    public JobStatId getId() {
+        return id;
+    }
+
+    public void setId(JobStatId id) {
+        this.id = id;
+    }
+
+    public Long getJobCount() {
+        return jobCount;
+    }
+
+    public void setJobCount(Long jobCount) {
+        this.jobCount = jobCount;
+    }
+}
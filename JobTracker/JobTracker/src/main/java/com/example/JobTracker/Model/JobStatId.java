@@ -0,0 +1,54 @@
+package com.example.JobTracker.Model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class JobStatId implements Serializable {
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 10)
+    private String dimension;
+
+    @Column(name = "dim_key", nullable = false, length = 50)
+    private String dimKey;
+
+    public JobStatId() {}
+
+    public JobStatId(Long userId, String dimension, String dimKey) {
+        this.userId = userId;
+        this.dimension = dimension;
+        this.dimKey = dimKey;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getDimension() {
+        return dimension;
+    }
+
+    public String getDimKey() {
+        return dimKey;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof JobStatId that)) return false;
+        return Objects.equals(userId, that.userId)
+                && Objects.equals(dimension, that.dimension)
+                && Objects.equals(dimKey, that.dimKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, dimension, dimKey);
+    }
+}
@@ -14,7 +14,7 @@ public class User {
     @Column(nullable = false,length = 100)
     private String name;
 
-    @Column(nullable = false,length = 100)
+    @Column(nullable = false,length = 255)
     private String password;
 
     @Column(nullable = false,unique = true,length = 100)
@@ -32,7 +32,8 @@ public class User {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
-    @Column(name = "last_login")
+    // Only LastLoginRecorder writes this column, so entity saves never roll it back
+    @Column(name = "last_login", updatable = false)
     private LocalDateTime lastLogin;
 
     public User() {
@@ -3,11 +3,20 @@ package com.example.JobTracker.Repository;
 
 import com.example.JobTracker.Model.Admin;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
 
 @Repository
 public interface AdminRepository extends JpaRepository<Admin, Long> {
     Optional<Admin> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // Swaps in a rehashed password only if it has not been changed since it was read
+    @Transactional
+    @Modifying
+    @Query("UPDATE Admin a SET a.password = ?2 WHERE a.id = ?1 AND a.password = ?3")
+    int replacePasswordHash(Long id, String newHash, String oldHash);
 }
\ No newline at end of file
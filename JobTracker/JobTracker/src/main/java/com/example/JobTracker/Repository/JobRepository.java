@@ -2,26 +2,37 @@ package com.example.JobTracker.Repository;
 
 
 import com.example.JobTracker.Model.Job;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface JobRepository extends JpaRepository<Job, Long> {
+public interface JobRepository extends JpaRepository<Job, Long>, JobRepositoryCustom {
 
     List<Job> findByUserId(Long userId);
 
-    List<Job> findByUserIdAndStatus(Long userId, String status);
-
-    List<Job> findByUserIdAndSource(Long userId, String source);
-
-    @Query("SELECT j FROM Job j WHERE j.userId = ?1 AND (j.company LIKE %?2% OR j.role LIKE %?2%)")
-    List<Job> searchJobs(Long userId, String keyword);
+    // Forward-only cursor for exports; MySQL Connector/J streams row by row when fetch size is Integer.MIN_VALUE
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT j FROM Job j WHERE j.userId = ?1 ORDER BY j.appliedDate DESC, j.id DESC")
+    Stream<Job> streamByUserId(Long userId);
 
     @Query("SELECT j.status, COUNT(j) FROM Job j WHERE j.userId = ?1 GROUP BY j.status")
     List<Object[]> getStatusCounts(Long userId);
 
     @Query("SELECT j.source, COUNT(j) FROM Job j WHERE j.userId = ?1 GROUP BY j.source")
     List<Object[]> getSourceCounts(Long userId);
-}
\ No newline at end of file
+
+    @Query("SELECT YEAR(j.appliedDate), MONTH(j.appliedDate), COUNT(j) FROM Job j " +
+            "WHERE j.userId = ?1 AND j.appliedDate >= ?2 AND j.appliedDate < ?3 " +
+            "GROUP BY YEAR(j.appliedDate), MONTH(j.appliedDate)")
+    List<Object[]> getMonthlyCounts(Long userId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,13 @@
+package com.example.JobTracker.Repository;
+
+import com.example.JobTracker.Model.Job;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface JobRepositoryCustom {
+
+    // Keyset page over (user_id, applied_date, id); status/source/keyword are optional filters
+    List<Job> findPage(Long userId, String status, String source, String keyword,
+                       LocalDate afterDate, Long afterId, boolean ascending, int limit);
+}
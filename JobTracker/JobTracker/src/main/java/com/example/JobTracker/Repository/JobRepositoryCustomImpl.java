@@ -0,0 +1,73 @@
+package com.example.JobTracker.Repository;
+
+import com.example.JobTracker.Model.Job;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class JobRepositoryCustomImpl implements JobRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Job> findPage(Long userId, String status, String source, String keyword,
+                              LocalDate afterDate, Long afterId, boolean ascending, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Job> query = cb.createQuery(Job.class);
+        Root<Job> job = query.from(Job.class);
+
+        Path<LocalDate> appliedDate = job.get("appliedDate");
+        Path<Long> id = job.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(job.get("userId"), userId));
+
+        if (status != null) {
+            predicates.add(cb.equal(job.get("status"), status));
+        }
+        if (source != null) {
+            predicates.add(cb.equal(job.get("source"), source));
+        }
+        if (keyword != null) {
+            String pattern = "%" + keyword + "%";
+            predicates.add(cb.or(
+                    cb.like(job.get("company"), pattern),
+                    cb.like(job.get("role"), pattern)
+            ));
+        }
+
+        // Seek past the last row of the previous page instead of using OFFSET
+        if (afterDate != null && afterId != null) {
+            if (ascending) {
+                predicates.add(cb.or(
+                        cb.greaterThan(appliedDate, afterDate),
+                        cb.and(cb.equal(appliedDate, afterDate), cb.greaterThan(id, afterId))
+                ));
+            } else {
+                predicates.add(cb.or(
+                        cb.lessThan(appliedDate, afterDate),
+                        cb.and(cb.equal(appliedDate, afterDate), cb.lessThan(id, afterId))
+                ));
+            }
+        }
+
+        query.select(job)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(ascending
+                        ? List.of(cb.asc(appliedDate), cb.asc(id))
+                        : List.of(cb.desc(appliedDate), cb.desc(id)));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.JobTracker.Repository;
+
+import com.example.JobTracker.Model.JobStat;
+import com.example.JobTracker.Model.JobStatId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobStatRepository extends JpaRepository<JobStat, JobStatId> {
+
+    @Query("SELECT s FROM JobStat s WHERE s.id.userId = ?1")
+    List<JobStat> findByUserId(Long userId);
+
+    // Returns 0 when the user's counters were never materialized, so callers skip the other deltas
+    @Modifying
+    @Query(value = "UPDATE job_stats SET job_count = job_count + ?2 " +
+            "WHERE user_id = ?1 AND dimension = 'total' AND dim_key = ''", nativeQuery = true)
+    int addToTotal(Long userId, long delta);
+
+    @Modifying
+    @Query(value = "INSERT INTO job_stats (user_id, dimension, dim_key, job_count) VALUES (?1, ?2, ?3, ?4) " +
+            "ON DUPLICATE KEY UPDATE job_count = job_count + ?4", nativeQuery = true)
+    void addToCount(Long userId, String dimension, String dimKey, long delta);
+
+    @Modifying
+    @Query(value = "DELETE FROM job_stats WHERE user_id = ?1", nativeQuery = true)
+    void deleteByUserId(Long userId);
+
+    // Upsert so two first reads of the same user (or a read that raced a lagging replica) both succeed
+    @Modifying
+    @Query(value = "INSERT INTO job_stats (user_id, dimension, dim_key, job_count) " +
+            "SELECT * FROM (" +
+            "SELECT ?1 AS user_id, 'total' AS dimension, '' AS dim_key, COUNT(*) AS job_count FROM jobs WHERE user_id = ?1 " +
+            "UNION ALL SELECT ?1, 'status', COALESCE(status, ''), COUNT(*) FROM jobs WHERE user_id = ?1 GROUP BY COALESCE(status, '') " +
+            "UNION ALL SELECT ?1, 'source', COALESCE(source, ''), COUNT(*) FROM jobs WHERE user_id = ?1 GROUP BY COALESCE(source, '') " +
+            "UNION ALL SELECT ?1, 'month', DATE_FORMAT(applied_date, '%Y-%m'), COUNT(*) FROM jobs WHERE user_id = ?1 " +
+            "GROUP BY DATE_FORMAT(applied_date, '%Y-%m')) AS fresh " +
+            "ON DUPLICATE KEY UPDATE job_count = fresh.job_count", nativeQuery = true)
+    void materialize(Long userId);
+
+    // Materialized users with any counter (total, status, source or month) that no longer matches
+    // the jobs table. Leftover zero rows are not drift: a missing key also reads as zero.
+    @Query(value = "WITH fresh AS (" +
+            "SELECT user_id, 'total' AS dimension, '' AS dim_key, COUNT(*) AS job_count FROM jobs GROUP BY user_id " +
+            "UNION ALL SELECT user_id, 'status', COALESCE(status, ''), COUNT(*) FROM jobs GROUP BY user_id, COALESCE(status, '') " +
+            "UNION ALL SELECT user_id, 'source', COALESCE(source, ''), COUNT(*) FROM jobs GROUP BY user_id, COALESCE(source, '') " +
+            "UNION ALL SELECT user_id, 'month', DATE_FORMAT(applied_date, '%Y-%m'), COUNT(*) FROM jobs " +
+            "GROUP BY user_id, DATE_FORMAT(applied_date, '%Y-%m')) " +
+            "SELECT f.user_id FROM fresh f " +
+            "JOIN job_stats t ON t.user_id = f.user_id AND t.dimension = 'total' AND t.dim_key = '' " +
+            "LEFT JOIN job_stats s ON s.user_id = f.user_id AND s.dimension = f.dimension AND s.dim_key = f.dim_key " +
+            "WHERE s.job_count IS NULL OR s.job_count <> f.job_count " +
+            "UNION SELECT s.user_id FROM job_stats s " +
+            "LEFT JOIN fresh f ON f.user_id = s.user_id AND f.dimension = s.dimension AND f.dim_key = s.dim_key " +
+            "WHERE f.user_id IS NULL AND s.job_count <> 0", nativeQuery = true)
+    List<Long> findDriftedUsers();
+
+    @Modifying
+    @Query(value = "DELETE FROM job_stats", nativeQuery = true)
+    void deleteAllStats();
+}
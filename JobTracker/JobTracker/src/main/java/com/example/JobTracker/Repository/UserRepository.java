@@ -3,12 +3,45 @@ package com.example.JobTracker.Repository;
 
 
 import com.example.JobTracker.Model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    // Swaps in a rehashed password only if it has not been changed since it was read
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = ?2 WHERE u.id = ?1 AND u.password = ?3")
+    int replacePasswordHash(Long id, String newHash, String oldHash);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM User u ORDER BY u.id")
+    Stream<User> streamAll();
+
+    // One pass over users for the admin dashboard instead of hydrating every entity
+    @Query("SELECT COUNT(u) AS total, " +
+            "SUM(CASE WHEN u.isActive = true THEN 1 ELSE 0 END) AS active, " +
+            "SUM(CASE WHEN u.role = 'ADMIN' THEN 1 ELSE 0 END) AS admins " +
+            "FROM User u")
+    UserCounts getUserCounts();
+
+    interface UserCounts {
+        Long getTotal();
+        Long getActive();
+        Long getAdmins();
+    }
+}
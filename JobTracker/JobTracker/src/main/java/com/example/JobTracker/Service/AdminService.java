@@ -8,13 +8,17 @@ import com.example.JobTracker.Mapper.UserMapper;
 import com.example.JobTracker.Model.Admin;
 import com.example.JobTracker.Model.User;
 import com.example.JobTracker.Repository.AdminRepository;
+import com.example.JobTracker.Repository.JobRepository;
 import com.example.JobTracker.Repository.UserRepository;
 import com.example.JobTracker.util.JwtUtil;
+import com.example.JobTracker.config.MetricsConfig;
+import com.example.JobTracker.security.PasswordHashingService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -22,6 +26,7 @@ import java.util.stream.Collectors;
 
 //import com.example.JobTracker.util.JwtUtil;
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class AdminService {
 
     @Autowired
@@ -32,53 +37,26 @@ public class AdminService {
     private UserMapper userMapper;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private EntityCacheService entityCache;
+    @Autowired
+    private JobStatsService jobStatsService;
+    @Autowired
+    private LastLoginRecorder lastLoginRecorder;
+    @Autowired
+    private PasswordHashingService passwordHashing;
 
     @Autowired
     private JwtUtil jwtUtil;
 
-    // Validate registration data
-    private void validateRegistration(RegisterRequest dto) {
-        Map<String, String> errors = new HashMap<>();
-
-        // Validate email
-        if (dto.getEmail() == null || dto.getEmail().trim().isEmpty()) {
-            errors.put("email", "Email is required");
-        } else if (!dto.getEmail().matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
-            errors.put("email", "Invalid email format");
-        } else if (adminRepository.existsByEmail(dto.getEmail())) {
-            errors.put("email", "Email already exists");
-        }
-
-        // Validate name
-        if (dto.getName() == null || dto.getName().trim().isEmpty()) {
-            errors.put("name", "Name is required");
-        } else if (dto.getName().length() < 2) {
-            errors.put("name", "Name must be at least 2 characters");
-        }
-
-        // Validate password
-        if (dto.getPassword() == null || dto.getPassword().trim().isEmpty()) {
-            errors.put("password", "Password is required");
-        } else if (dto.getPassword().length() < 8) {
-            errors.put("password", "Password must be at least 8 characters");
-        } else if (!dto.getPassword().matches(".*\\d.*")) {
-            errors.put("password", "Password must include a number");
-        } else if (!dto.getPassword().matches(".*[A-Z].*")) {
-            errors.put("password", "Password must include an uppercase letter");
-        }
-
-
-        if (!errors.isEmpty()) {
-            throw new ValidationException("Validation failed", errors);
-        }
-    }
-
-
     public LoginResponse loginAdmin(LoginRequest dto) {
         Admin admin = adminRepository.findByEmail(dto.getEmail())
                 .orElseThrow(() -> new UserNotFoundException("Admin not found"));
 
-        if (!admin.getPassword().equals(dto.getPassword())) {
+        PasswordHashingService.Verification verification = passwordHashing.verify(dto.getPassword(), admin.getPassword());
+        if (!verification.matches()) {
             throw new InvalidCredentialsException();
         }
 
@@ -86,8 +64,16 @@ public class AdminService {
             throw new InvalidCredentialsException("Account is deactivated");
         }
 
+        // Legacy or weaker hash: upgrade it without holding up the login
+        if (verification.needsRehash()) {
+            String oldHash = admin.getPassword();
+            passwordHashing.rehashInBackground(dto.getPassword(),
+                    newHash -> adminRepository.replacePasswordHash(admin.getId(), newHash, oldHash));
+        }
+
+        // Written asynchronously; the response already reflects this login
         admin.setLastLogin(LocalDateTime.now());
-        adminRepository.save(admin);
+        lastLoginRecorder.recordAdminLogin(admin.getId(), admin.getLastLogin());
 
         String token = jwtUtil.generateToken(admin.getId(), admin.getEmail(), admin.getRole());
 //          String token="dummy-token-for-testing";
@@ -127,6 +113,7 @@ public class AdminService {
         }
         adminRepository.deleteById(id);
     }
+    @Transactional(readOnly = true)
     public List<UserResponse> getAllUsers() {
         List<User> users = userRepository.findAll();
         return users.stream()
@@ -148,6 +135,7 @@ public class AdminService {
 
         user.setRole("ADMIN");
         User updatedUser = userRepository.save(user);
+        entityCache.evictUser(updatedUser);
         return userMapper.toresponse(updatedUser);
     }
 
@@ -158,6 +146,7 @@ public class AdminService {
 
         user.setRole("USER");
         User updatedUser = userRepository.save(user);
+        entityCache.evictUser(updatedUser);
         return userMapper.toresponse(updatedUser);
     }
 
@@ -169,6 +158,7 @@ public class AdminService {
         user.setIsActive(false);
         user.setUpdatedAt(LocalDateTime.now());
         User updatedUser = userRepository.save(user);
+        entityCache.evictUser(updatedUser);
         return userMapper.toresponse(updatedUser);
     }
 
@@ -180,34 +170,48 @@ public class AdminService {
         user.setIsActive(true);
         user.setUpdatedAt(LocalDateTime.now());
         User updatedUser = userRepository.save(user);
+        entityCache.evictUser(updatedUser);
         return userMapper.toresponse(updatedUser);
     }
 
     // Delete user (Admin power)
     public void deleteUser(Long userId) {
-        if (!userRepository.existsById(userId)) {
-            throw new UserNotFoundException(userId);
-        }
-        userRepository.deleteById(userId);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+        userRepository.delete(user);
+        entityCache.evictUser(user);
     }
 
     // Get admin statistics
+    @Transactional(readOnly = true)
     public AdminStatsResponse getAdminStatistics() {
-        long totalUsers = userRepository.count();
-        long activeUsers = userRepository.findAll().stream()
-                .filter(User::getIsActive)
-                .count();
-        long inactiveUsers = totalUsers - activeUsers;
-        long adminUsers = userRepository.findAll().stream()
-                .filter(user -> "ADMIN".equals(user.getRole()))
-                .count();
+        UserRepository.UserCounts counts = userRepository.getUserCounts();
+        long totalUsers = valueOf(counts.getTotal());
+        long activeUsers = valueOf(counts.getActive());
+        long adminUsers = valueOf(counts.getAdmins());
 
         AdminStatsResponse stats = new AdminStatsResponse();
         stats.setTotalUsers(totalUsers);
         stats.setActiveUsers(activeUsers);
-        stats.setInactiveUsers(inactiveUsers);
+        stats.setInactiveUsers(totalUsers - activeUsers);
         stats.setAdminUsers(adminUsers);
+        stats.setTotalJobs(jobRepository.count());
 
         return stats;
     }
+
+    // Drop all materialized job counters; each user's are rebuilt from jobs on their next stats read
+    public void rebuildJobStats() {
+        jobStatsService.invalidateAll();
+    }
+
+    // Hit ratio, size and evictions of the read-through caches
+    public Map<String, Object> getCacheStatistics() {
+        return entityCache.getStatistics();
+    }
+
+    // SUM over an empty table comes back as null
+    private long valueOf(Long count) {
+        return count != null ? count : 0L;
+    }
 }
@@ -0,0 +1,97 @@
+package com.example.JobTracker.Service;
+
+import com.example.JobTracker.Model.Job;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Builds the dashboard stats map from either pre-grouped SQL rows or individual jobs (single pass)
+public class DashboardStatsAccumulator {
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MMM yyyy");
+    private static final String[] TRACKED_STATUSES = {"Applied", "Interview", "Offer", "Rejected"};
+
+    private final YearMonth firstMonth;
+    private final long[] monthlyCounts;
+    private final Map<String, Long> statusCounts = new HashMap<>();
+    private final Map<String, Long> sourceCounts = new HashMap<>();
+    private long totalJobs;
+
+    public DashboardStatsAccumulator(YearMonth currentMonth, int months) {
+        int window = Math.max(1, months);
+        this.firstMonth = currentMonth.minusMonths(window - 1);
+        this.monthlyCounts = new long[window];
+    }
+
+    // Inclusive lower bound of the monthly window
+    public LocalDate getWindowStart() {
+        return firstMonth.atDay(1);
+    }
+
+    // Exclusive upper bound of the monthly window
+    public LocalDate getWindowEnd() {
+        return firstMonth.plusMonths(monthlyCounts.length).atDay(1);
+    }
+
+    public void addStatus(String status, long count) {
+        totalJobs += count;
+        if (status != null) {
+            statusCounts.merge(status, count, Long::sum);
+        }
+    }
+
+    public void addSource(String source, long count) {
+        if (source != null) {
+            sourceCounts.merge(source, count, Long::sum);
+        }
+    }
+
+    public void addMonth(int year, int month, long count) {
+        long offset = firstMonth.until(YearMonth.of(year, month), ChronoUnit.MONTHS);
+        if (offset >= 0 && offset < monthlyCounts.length) {
+            monthlyCounts[(int) offset] += count;
+        }
+    }
+
+    public void add(Job job) {
+        addStatus(job.getStatus(), 1);
+        addSource(job.getSource(), 1);
+        if (job.getAppliedDate() != null) {
+            addMonth(job.getAppliedDate().getYear(), job.getAppliedDate().getMonthValue(), 1);
+        }
+    }
+
+    public Map<String, Object> toStats() {
+        Map<String, Long> trackedCounts = new HashMap<>();
+        long trackedTotal = 0;
+        for (String status : TRACKED_STATUSES) {
+            long count = statusCounts.getOrDefault(status, 0L);
+            trackedCounts.put(status, count);
+            trackedTotal += count;
+        }
+
+        Map<String, Long> monthlyApplications = new LinkedHashMap<>();
+        for (int i = 0; i < monthlyCounts.length; i++) {
+            monthlyApplications.put(firstMonth.plusMonths(i).format(MONTH_FORMAT), monthlyCounts[i]);
+        }
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalJobs", totalJobs);
+        stats.put("statusCounts", trackedCounts);
+        stats.put("sourceCounts", sourceCounts);
+        stats.put("monthlyApplications", monthlyApplications);
+        stats.put("successRate", calculateSuccessRate(trackedCounts, trackedTotal));
+        return stats;
+    }
+
+    private double calculateSuccessRate(Map<String, Long> trackedCounts, long trackedTotal) {
+        if (trackedTotal == 0) return 0.0;
+        long successful = trackedCounts.get("Offer") + trackedCounts.get("Interview");
+        return (successful * 100.0) / trackedTotal;
+    }
+}
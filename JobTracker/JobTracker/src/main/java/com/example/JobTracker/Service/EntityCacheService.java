@@ -0,0 +1,70 @@
+package com.example.JobTracker.Service;
+
+import com.example.JobTracker.Model.User;
+import com.example.JobTracker.config.CacheConfig;
+import com.example.JobTracker.events.JobChangedEvent;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Evicts read-through entries after writes; user entries live under both id and email keys
+@Service
+public class EntityCacheService {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    public void evictUser(User user) {
+        evictUser(user.getId(), user.getEmail());
+    }
+
+    public void evictUser(Long userId, String email) {
+        evict(CacheConfig.USERS, userId);
+        evict(CacheConfig.USERS_BY_EMAIL, email);
+    }
+
+    public void evictJob(Long jobId) {
+        evict(CacheConfig.JOBS, jobId);
+    }
+
+    // After commit: evicting inside the write transaction lets a concurrent read re-cache the old row
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (JobChangedEvent.UPDATED.equals(event.type()) || JobChangedEvent.DELETED.equals(event.type())) {
+            evictJob(event.jobId());
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+                CacheStats cacheStats = nativeCache.stats();
+
+                Map<String, Object> entry = new HashMap<>();
+                entry.put("size", nativeCache.estimatedSize());
+                entry.put("hitCount", cacheStats.hitCount());
+                entry.put("missCount", cacheStats.missCount());
+                entry.put("hitRatio", cacheStats.hitRate());
+                entry.put("evictionCount", cacheStats.evictionCount());
+                stats.put(name, entry);
+            }
+        }
+        return stats;
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+}
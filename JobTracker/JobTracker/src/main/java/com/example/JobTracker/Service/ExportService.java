@@ -0,0 +1,199 @@
+package com.example.JobTracker.Service;
+
+import com.example.JobTracker.CustomException.ValidationException;
+import com.example.JobTracker.Model.Job;
+import com.example.JobTracker.Model.User;
+import com.example.JobTracker.Repository.JobRepository;
+import com.example.JobTracker.Repository.UserRepository;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+// Writes rows straight from a forward-only cursor to the response; nothing is collected in memory
+@Service
+public class ExportService {
+
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String[] JOB_COLUMNS =
+            {"id", "company", "role", "appliedDate", "source", "status", "deadline", "createdAt", "updatedAt"};
+    private static final String[] USER_COLUMNS =
+            {"id", "name", "email", "role", "isActive", "createdAt", "lastLogin"};
+
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Rows written between flushes to the client
+    @Value("${export.flush-every:500}")
+    private int flushEvery;
+
+    public String resolveFormat(String format) {
+        if (format == null || format.isEmpty() || FORMAT_CSV.equalsIgnoreCase(format)) {
+            return FORMAT_CSV;
+        }
+        if (FORMAT_NDJSON.equalsIgnoreCase(format)) {
+            return FORMAT_NDJSON;
+        }
+        ValidationException ex = new ValidationException("Invalid export format");
+        ex.addError("format", "Format must be '" + FORMAT_CSV + "' or '" + FORMAT_NDJSON + "'");
+        throw ex;
+    }
+
+    // Sets headers and returns the body writer, gzip-wrapped when the client accepts it
+    public Writer openResponse(HttpServletRequest request, HttpServletResponse response,
+                               String fileName, String format) throws IOException {
+        boolean csv = FORMAT_CSV.equals(format);
+        response.setContentType(csv ? "text/csv" : "application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader("Content-Disposition",
+                "attachment; filename=\"" + fileName + (csv ? ".csv" : ".ndjson") + "\"");
+
+        OutputStream out = response.getOutputStream();
+        String acceptEncoding = request.getHeader("Accept-Encoding");
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            response.setHeader("Content-Encoding", "gzip");
+            response.addHeader("Vary", "Accept-Encoding");
+            out = new GZIPOutputStream(out, 8192, true);
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+    }
+
+    @Transactional(readOnly = true)
+    public long exportJobs(Long userId, String format, Writer writer) throws IOException {
+        try (Stream<Job> jobs = jobRepository.streamByUserId(userId);
+             RowWriter rows = new RowWriter(writer, format, JOB_COLUMNS)) {
+            jobs.forEach(job -> {
+                rows.write(
+                        job.getId(), job.getCompany(), job.getRole(), job.getAppliedDate(), job.getSource(),
+                        job.getStatus(), job.getDeadline(), job.getCreatedAt(), job.getUpdatedAt()
+                );
+                entityManager.detach(job);
+            });
+            return rows.count;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportUsers(String format, Writer writer) throws IOException {
+        try (Stream<User> users = userRepository.streamAll();
+             RowWriter rows = new RowWriter(writer, format, USER_COLUMNS)) {
+            users.forEach(user -> {
+                rows.write(
+                        user.getId(), user.getName(), user.getEmail(), user.getRole(),
+                        user.getIsActive(), user.getCreatedAt(), user.getLastLogin()
+                );
+                entityManager.detach(user);
+            });
+            return rows.count;
+        }
+    }
+
+    private final class RowWriter implements AutoCloseable {
+        private final Writer writer;
+        private final JsonGenerator json;
+        private final String[] columns;
+        private long count;
+
+        private RowWriter(Writer writer, String format, String[] columns) throws IOException {
+            this.writer = writer;
+            this.columns = columns;
+            if (FORMAT_NDJSON.equals(format)) {
+                this.json = JSON_FACTORY.createGenerator(writer);
+                // Rows are separated by the '\n' written after each one, not Jackson's default space
+                this.json.setRootValueSeparator(null);
+            } else {
+                this.json = null;
+                writer.write(String.join(",", columns));
+                writer.write('\n');
+            }
+        }
+
+        private void write(Object... values) {
+            try {
+                if (json != null) {
+                    json.writeStartObject();
+                    for (int i = 0; i < columns.length; i++) {
+                        writeJsonField(columns[i], values[i]);
+                    }
+                    json.writeEndObject();
+                    json.writeRaw('\n');
+                } else {
+                    for (int i = 0; i < values.length; i++) {
+                        if (i > 0) {
+                            writer.write(',');
+                        }
+                        writer.write(csv(values[i]));
+                    }
+                    writer.write('\n');
+                }
+                if (++count % flushEvery == 0) {
+                    flush();
+                }
+            } catch (IOException e) {
+                // Client went away; stop reading from the cursor
+                throw new IllegalStateException("Export aborted", e);
+            }
+        }
+
+        private void writeJsonField(String name, Object value) throws IOException {
+            if (value == null) {
+                json.writeNullField(name);
+            } else if (value instanceof Number number) {
+                json.writeNumberField(name, number.longValue());
+            } else if (value instanceof Boolean bool) {
+                json.writeBooleanField(name, bool);
+            } else {
+                json.writeStringField(name, value.toString());
+            }
+        }
+
+        private String csv(Object value) {
+            if (value == null) {
+                return "";
+            }
+            String text = value.toString();
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                return '"' + text.replace("\"", "\"\"") + '"';
+            }
+            return text;
+        }
+
+        private void flush() throws IOException {
+            if (json != null) {
+                json.flush();
+            }
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (json != null) {
+                json.close();
+            }
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.example.JobTracker.Service;
+
+import com.example.JobTracker.CustomException.ValidationException;
+import com.example.JobTracker.DTO.BulkImportResponse;
+import com.example.JobTracker.DTO.JobRequest;
+import com.example.JobTracker.events.JobChangedEvent;
+import com.example.JobTracker.search.JobSearchIndex;
+import com.example.JobTracker.validation.RequestValidator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Streams JSON arrays or CSV into batched INSERTs. Jobs use IDENTITY ids, which turns off
+// Hibernate's JDBC batching, so rows go through JdbcTemplate (rewriteBatchedStatements on the URL).
+@Service
+public class JobImportService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO jobs (user_id, company, role, applied_date, source, status, deadline, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+    @Autowired
+    private JobStatsService jobStatsService;
+    @Autowired
+    private RequestValidator requestValidator;
+    @Autowired
+    private JobVersionService jobVersions;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${jobs.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${jobs.import.max-rows:50000}")
+    private int maxRows;
+
+    public BulkImportResponse importJson(InputStream in, Long userId) throws IOException {
+        ImportRun run = new ImportRun(userId);
+
+        try (JsonParser parser = MAPPER.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ValidationException("Request body must be a JSON array of jobs");
+            }
+            long row = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    run.abort("Malformed JSON: unexpected end of input");
+                    break;
+                }
+                row++;
+                if (!run.hasCapacity()) {
+                    run.reject(row, "Import is limited to " + maxRows + " rows");
+                    break;
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    // Skip the element (and any nested array) and keep going with the next row
+                    parser.skipChildren();
+                    run.reject(row, "Row must be a JSON object");
+                    continue;
+                }
+                JsonNode node = MAPPER.readTree(parser);
+                try {
+                    JobRequest dto = new JobRequest();
+                    dto.setCompany(text(node, "company"));
+                    dto.setRole(text(node, "role"));
+                    dto.setAppliedDate(date(text(node, "appliedDate"), "appliedDate"));
+                    dto.setSource(text(node, "source"));
+                    dto.setStatus(text(node, "status"));
+                    dto.setDeadline(date(text(node, "deadline"), "deadline"));
+                    run.accept(row, dto);
+                } catch (IllegalArgumentException e) {
+                    run.reject(row, e.getMessage());
+                }
+            }
+        } catch (JsonProcessingException e) {
+            run.abort("Malformed JSON: " + e.getOriginalMessage());
+        }
+
+        return run.finish();
+    }
+
+    // Expects a header row naming the columns (company, role, appliedDate, source, status, deadline) in any order
+    public BulkImportResponse importCsv(BufferedReader reader, Long userId) throws IOException {
+        ImportRun run = new ImportRun(userId);
+
+        String header = reader.readLine();
+        if (header == null) {
+            throw new ValidationException("CSV body is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = parseCsvLine(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("company") || !columns.containsKey("role") || !columns.containsKey("applieddate")) {
+            throw new ValidationException("CSV header must include company, role and appliedDate");
+        }
+
+        String line;
+        long row = 0;
+        while ((line = reader.readLine()) != null) {
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            row++;
+            if (!run.hasCapacity()) {
+                run.reject(row, "Import is limited to " + maxRows + " rows");
+                break;
+            }
+            try {
+                List<String> fields = parseCsvLine(line);
+                JobRequest dto = new JobRequest();
+                dto.setCompany(field(fields, columns, "company"));
+                dto.setRole(field(fields, columns, "role"));
+                dto.setAppliedDate(date(field(fields, columns, "applieddate"), "appliedDate"));
+                dto.setSource(field(fields, columns, "source"));
+                dto.setStatus(field(fields, columns, "status"));
+                dto.setDeadline(date(field(fields, columns, "deadline"), "deadline"));
+                run.accept(row, dto);
+            } catch (IllegalArgumentException e) {
+                run.reject(row, e.getMessage());
+            }
+        }
+
+        return run.finish();
+    }
+
+    // Same rules as the single-job endpoints; a row reports its first failing field
+    private String validate(JobRequest dto) {
+        Map<String, String> errors = requestValidator.jobErrors(dto);
+        return errors.isEmpty() ? null : errors.values().iterator().next();
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        String text = value.asText().trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static LocalDate date(String value, String field) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.length() > 10 ? value.substring(0, 10) : value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + field + " (expected yyyy-MM-dd): " + value);
+        }
+    }
+
+    // RFC 4180 fields on a single line: commas, double quotes and "" escapes
+    private static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    // Accumulates one batch at a time; memory stays at batch-size rows however large the upload is
+    private class ImportRun {
+        private final Long userId;
+        private final long startNanos = System.nanoTime();
+        private final List<Object[]> batch = new ArrayList<>();
+        private final List<Long> batchRows = new ArrayList<>();
+        private final BulkImportResponse report = new BulkImportResponse();
+
+        private ImportRun(Long userId) {
+            this.userId = userId;
+        }
+
+        private boolean hasCapacity() {
+            return report.getTotalRows() < maxRows;
+        }
+
+        private void accept(long row, JobRequest dto) {
+            report.setTotalRows(report.getTotalRows() + 1);
+            String error = validate(dto);
+            if (error != null) {
+                recordError(row, error);
+                return;
+            }
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            batch.add(new Object[]{
+                    userId,
+                    dto.getCompany(),
+                    dto.getRole(),
+                    Date.valueOf(dto.getAppliedDate()),
+                    dto.getSource(),
+                    dto.getStatus() != null ? dto.getStatus() : "Applied",
+                    dto.getDeadline() != null ? Date.valueOf(dto.getDeadline()) : null,
+                    now,
+                    now
+            });
+            batchRows.add(row);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void reject(long row, String message) {
+            report.setTotalRows(report.getTotalRows() + 1);
+            recordError(row, message);
+        }
+
+        private void abort(String message) {
+            recordError(report.getTotalRows() + 1, message);
+        }
+
+        private void recordError(long row, String message) {
+            report.setFailed(report.getFailed() + 1);
+            if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+                report.getErrors().add(new BulkImportResponse.RowError(row, message));
+            } else {
+                report.setErrorsTruncated(true);
+            }
+        }
+
+        // Each batch commits atomically; a database failure rejects just that batch
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batch));
+                report.setImported(report.getImported() + batch.size());
+            } catch (DataAccessException e) {
+                String cause = e.getMostSpecificCause().getMessage();
+                for (Long row : batchRows) {
+                    recordError(row, "Database rejected batch: " + cause);
+                }
+            }
+            batch.clear();
+            batchRows.clear();
+        }
+
+        private BulkImportResponse finish() {
+            flush();
+            if (report.getImported() > 0) {
+                // Rows bypassed JobService, so rebuild this user's search index and counters on next use
+                jobSearchIndex.invalidate(userId);
+                jobStatsService.invalidate(userId);
+                long version = jobVersions.bump(userId);
+                eventPublisher.publishEvent(new JobChangedEvent(userId, JobChangedEvent.RESYNC, null, null, version));
+            }
+
+            long elapsedNanos = System.nanoTime() - startNanos;
+            report.setElapsedMs(elapsedNanos / 1_000_000);
+            report.setRowsPerSecond(elapsedNanos > 0 ? report.getImported() * 1_000_000_000.0 / elapsedNanos : 0);
+            report.setSuccess(report.getFailed() == 0);
+            return report;
+        }
+    }
+}
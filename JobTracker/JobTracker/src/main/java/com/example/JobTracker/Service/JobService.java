@@ -1,42 +1,98 @@
 package com.example.JobTracker.Service;
 
 
+import com.example.JobTracker.DTO.JobPageResponse;
 import com.example.JobTracker.DTO.JobRequest;
 import com.example.JobTracker.DTO.JobResponse;
 import com.example.JobTracker.CustomException.JobNotFoundException;
+import com.example.JobTracker.CustomException.ValidationException;
 import com.example.JobTracker.Mapper.JobMapper;
 import com.example.JobTracker.Model.Job;
 import com.example.JobTracker.Repository.JobRepository;
+import com.example.JobTracker.config.CacheConfig;
+import com.example.JobTracker.config.MetricsConfig;
+import com.example.JobTracker.events.JobChangedEvent;
+import com.example.JobTracker.search.JobSearchIndex;
+import com.example.JobTracker.util.JobCursor;
+import com.example.JobTracker.util.SearchCursor;
+import com.example.JobTracker.validation.RequestValidator;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class JobService {
+    public static final String SORT_NEWEST = "newest";
+    public static final String SORT_OLDEST = "oldest";
+    public static final String SORT_RELEVANCE = "relevance";
+    public static final String AGGREGATION_MEMORY = "memory";
+    public static final String SEARCH_DATABASE = "database";
+
     @Autowired
     private  JobMapper jobMapper;
     @Autowired
     private JobRepository jobRepository;
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+    @Autowired
+    private JobStatsService jobStatsService;
+    @Autowired
+    private RequestValidator requestValidator;
+    @Autowired
+    private JobVersionService jobVersions;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
-    public List<JobResponse> getAllJobsByUserId(Long userId) {
-        List<Job> jobs = jobRepository.findByUserId(userId);
-        return jobs.stream()
-                .map(jobMapper::toResponse)
-                .collect(Collectors.toList());
+    @Value("${jobs.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${jobs.page.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${jobs.dashboard.months:6}")
+    private int dashboardMonths;
+
+    // "sql" groups in the database; "memory" folds the user's jobs in a single pass
+    @Value("${jobs.dashboard.aggregation:sql}")
+    private String dashboardAggregation;
+
+    // Serve stats from the job_stats counters instead of GROUP BY over jobs
+    @Value("${jobs.stats.materialized:true}")
+    private boolean materializedStats;
+
+    // "index" serves search from the in-memory index; "database" falls back to LIKE with keyset paging
+    @Value("${jobs.search.mode:index}")
+    private String searchMode;
+
+    @Transactional(readOnly = true)
+    public JobPageResponse getAllJobsByUserId(Long userId, String cursor, Integer size, String sort) {
+        return findPage(userId, null, null, null, cursor, size, sort);
     }
 
+    @Cacheable(value = CacheConfig.JOBS, key = "#id")
     public JobResponse getJobById(Long id) {
         Job job = jobRepository.findById(id)
                 .orElseThrow(() -> new JobNotFoundException(id));
         return  jobMapper.toResponse(job);
     }
 
+    @Transactional
     public JobResponse addJob(JobRequest dto, Long userId) {
+        requestValidator.validateJob(dto);
         Job job = new Job();
         job.setUserId(userId);
         job.setCompany(dto.getCompany());
@@ -49,13 +105,24 @@ public class JobService {
         job.setUpdatedAt(LocalDateTime.now());
 
         Job savedJob = jobRepository.save(job);
-        return  jobMapper.toResponse(job);
+        jobStatsService.recordAdded(savedJob);
+        long version = jobVersions.bump(userId);
+        JobResponse response = jobMapper.toResponse(job);
+        // Cache eviction, the search index and the event stream all apply this after commit
+        eventPublisher.publishEvent(new JobChangedEvent(userId, JobChangedEvent.ADDED, savedJob.getId(), response, version));
+        return response;
     }
 
+    @Transactional
     public JobResponse updateJob(Long id, JobRequest dto) {
+        requestValidator.validateJob(dto);
         Job job = jobRepository.findById(id)
                 .orElseThrow(() -> new JobNotFoundException(id));
 
+        String oldStatus = job.getStatus();
+        String oldSource = job.getSource();
+        LocalDate oldAppliedDate = job.getAppliedDate();
+
         job.setCompany(dto.getCompany());
         job.setRole(dto.getRole());
         job.setAppliedDate(dto.getAppliedDate());
@@ -65,50 +132,132 @@ public class JobService {
         job.setUpdatedAt(LocalDateTime.now());
 
         Job updatedJob = jobRepository.save(job);
-        return  jobMapper.toResponse(job);
+        jobStatsService.recordChanged(job.getUserId(), oldStatus, oldSource, oldAppliedDate, updatedJob);
+        long version = jobVersions.bump(job.getUserId());
+        JobResponse response = jobMapper.toResponse(job);
+        eventPublisher.publishEvent(new JobChangedEvent(job.getUserId(), JobChangedEvent.UPDATED, id, response, version));
+        return response;
     }
 
+    @Transactional
     public void deleteJob(Long id) {
-        if (!jobRepository.existsById(id)) {
-            throw new JobNotFoundException(id);
-        }
-        jobRepository.deleteById(id);
+        Job job = jobRepository.findById(id)
+                .orElseThrow(() -> new JobNotFoundException(id));
+        jobRepository.delete(job);
+        jobStatsService.recordRemoved(job);
+        long version = jobVersions.bump(job.getUserId());
+        eventPublisher.publishEvent(new JobChangedEvent(job.getUserId(), JobChangedEvent.DELETED, id, null, version));
     }
 
-    public List<JobResponse> getJobsByStatus(Long userId, String status) {
-        List<Job> jobs = jobRepository.findByUserIdAndStatus(userId, status);
-        return jobs.stream()
-                .map(jobMapper::toResponse)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public JobPageResponse getJobsByStatus(Long userId, String status, String cursor, Integer size, String sort) {
+        return findPage(userId, status, null, null, cursor, size, sort);
+    }
+
+    @Transactional(readOnly = true)
+    public JobPageResponse getJobsBySource(Long userId, String source, String cursor, Integer size, String sort) {
+        return findPage(userId, null, source, null, cursor, size, sort);
     }
 
-    public List<JobResponse> searchJobs(Long userId, String keyword) {
-        List<Job> jobs = jobRepository.searchJobs(userId, keyword);
-        return jobs.stream()
+    @Transactional(readOnly = true)
+    public JobPageResponse searchJobs(Long userId, String keyword, String cursor, Integer size, String sort) {
+        String term = keyword != null && !keyword.trim().isEmpty() ? keyword.trim() : null;
+        if (SEARCH_DATABASE.equalsIgnoreCase(searchMode)) {
+            return findPage(userId, null, null, term, cursor, size, sort);
+        }
+
+        // Ranked results are paged by offset over the in-memory hit list
+        String order = sort == null || sort.isEmpty() || SORT_RELEVANCE.equalsIgnoreCase(sort)
+                ? SORT_RELEVANCE
+                : resolveSort(sort);
+        int limit = resolvePageSize(size);
+        int offset = (cursor != null && !cursor.isEmpty()) ? SearchCursor.decode(cursor, order) : 0;
+
+        List<JobResponse> hits = jobSearchIndex.search(userId, term, order);
+        int end = Math.min(hits.size(), offset + limit);
+        List<JobResponse> items = offset < end ? new ArrayList<>(hits.subList(offset, end)) : new ArrayList<>();
+        boolean hasMore = end < hits.size();
+        String nextCursor = hasMore ? SearchCursor.encode(order, end) : null;
+
+        return new JobPageResponse(items, nextCursor, hasMore, items.size(), order);
+    }
+
+    // Keyset pagination on (user_id, applied_date, id): fetch one extra row to know if another page exists
+    private JobPageResponse findPage(Long userId, String status, String source, String keyword,
+                                     String cursor, Integer size, String sort) {
+        String order = resolveSort(sort);
+        int limit = resolvePageSize(size);
+        JobCursor after = (cursor != null && !cursor.isEmpty()) ? JobCursor.decode(cursor, order) : null;
+
+        List<Job> rows = jobRepository.findPage(
+                userId, status, source, keyword,
+                after != null ? after.getAppliedDate() : null,
+                after != null ? after.getId() : null,
+                SORT_OLDEST.equals(order),
+                limit + 1
+        );
+
+        boolean hasMore = rows.size() > limit;
+        List<Job> page = hasMore ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            Job last = page.get(page.size() - 1);
+            nextCursor = new JobCursor(order, last.getAppliedDate(), last.getId()).encode();
+        }
+
+        List<JobResponse> items = page.stream()
                 .map(jobMapper::toResponse)
                 .collect(Collectors.toList());
+        return new JobPageResponse(items, nextCursor, hasMore, items.size(), order);
     }
 
-    public Map<String, Object> getStatistics(Long userId) {
-        List<Object[]> statusStats = jobRepository.getStatusCounts(userId);
-        List<Object[]> sourceStats = jobRepository.getSourceCounts(userId);
+    private String resolveSort(String sort) {
+        if (sort == null || sort.isEmpty() || SORT_NEWEST.equalsIgnoreCase(sort)) {
+            return SORT_NEWEST;
+        }
+        if (SORT_OLDEST.equalsIgnoreCase(sort)) {
+            return SORT_OLDEST;
+        }
+        ValidationException ex = new ValidationException("Invalid sort");
+        ex.addError("sort", "Sort must be '" + SORT_NEWEST + "' or '" + SORT_OLDEST + "'");
+        throw ex;
+    }
 
-        Map<String, Object> stats = new HashMap<>();
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
 
+    @Transactional(readOnly = true)
+    public Map<String, Object> getStatistics(Long userId) {
         Map<String, Long> statusCounts = new HashMap<>();
+        Map<String, Long> sourceCounts = new HashMap<>();
         long total = 0;
-        for (Object[] stat : statusStats) {
-            String status = (String) stat[0];
-            Long count = (Long) stat[1];
-            statusCounts.put(status, count);
-            total += count;
-        }
 
-        Map<String, Long> sourceCounts = new HashMap<>();
-        for (Object[] stat : sourceStats) {
-            sourceCounts.put((String) stat[0], (Long) stat[1]);
+        if (materializedStats) {
+            JobStatsService.Counts counts = jobStatsService.getCounts(userId);
+            total = counts.getTotal();
+            copyCounts(counts.getStatus(), statusCounts);
+            copyCounts(counts.getSource(), sourceCounts);
+        } else {
+            for (Object[] stat : jobRepository.getStatusCounts(userId)) {
+                long count = ((Number) stat[1]).longValue();
+                if (stat[0] != null) {
+                    statusCounts.put((String) stat[0], count);
+                }
+                total += count;
+            }
+            for (Object[] stat : jobRepository.getSourceCounts(userId)) {
+                if (stat[0] != null) {
+                    sourceCounts.put((String) stat[0], ((Number) stat[1]).longValue());
+                }
+            }
         }
 
+        Map<String, Object> stats = new HashMap<>();
         stats.put("statusCounts", statusCounts);
         stats.put("sourceCounts", sourceCounts);
         stats.put("totalJobs", total);
@@ -119,49 +268,48 @@ public class JobService {
 
         return stats;
     }
-    public Map<String, Object> getUserDashboardStats(Long userId) {
-        Map<String, Object> stats = new HashMap<>();
 
-        List<Job> userJobs = jobRepository.findByUserId(userId);
+    // Counter keys use '' for NULL; drop those and zeroed entries
+    private void copyCounts(Map<String, Long> from, Map<String, Long> to) {
+        from.forEach((key, count) -> {
+            if (!key.isEmpty() && count > 0) {
+                to.put(key, count);
+            }
+        });
+    }
 
-        // Status counts
-        Map<String, Long> statusCounts = new HashMap<>();
-        statusCounts.put("Applied", userJobs.stream().filter(j -> "Applied".equals(j.getStatus())).count());
-        statusCounts.put("Interview", userJobs.stream().filter(j -> "Interview".equals(j.getStatus())).count());
-        statusCounts.put("Offer", userJobs.stream().filter(j -> "Offer".equals(j.getStatus())).count());
-        statusCounts.put("Rejected", userJobs.stream().filter(j -> "Rejected".equals(j.getStatus())).count());
+    @Transactional(readOnly = true)
+    public Map<String, Object> getUserDashboardStats(Long userId) {
+        DashboardStatsAccumulator stats = new DashboardStatsAccumulator(YearMonth.now(), dashboardMonths);
 
-        // Source counts
-        Map<String, Long> sourceCounts = new HashMap<>();
-        userJobs.stream().collect(java.util.stream.Collectors.groupingBy(Job::getSource, java.util.stream.Collectors.counting()))
-                .forEach(sourceCounts::put);
-
-        // Monthly applications (last 6 months)
-        Map<String, Long> monthlyApplications = new HashMap<>();
-        java.time.LocalDate now = java.time.LocalDate.now();
-        for (int i = 5; i >= 0; i--) {
-            java.time.LocalDate month = now.minusMonths(i);
-            String monthKey = month.format(java.time.format.DateTimeFormatter.ofPattern("MMM yyyy"));
-            long count = userJobs.stream()
-                    .filter(j -> j.getAppliedDate().getYear() == month.getYear() &&
-                            j.getAppliedDate().getMonth() == month.getMonth())
-                    .count();
-            monthlyApplications.put(monthKey, count);
+        if (AGGREGATION_MEMORY.equalsIgnoreCase(dashboardAggregation)) {
+            jobRepository.findByUserId(userId).forEach(stats::add);
+            return stats.toStats();
         }
 
-        stats.put("totalJobs", userJobs.size());
-        stats.put("statusCounts", statusCounts);
-        stats.put("sourceCounts", sourceCounts);
-        stats.put("monthlyApplications", monthlyApplications);
-        stats.put("successRate", calculateSuccessRate(statusCounts));
+        if (materializedStats) {
+            JobStatsService.Counts counts = jobStatsService.getCounts(userId);
+            counts.getStatus().forEach((status, count) -> stats.addStatus(status.isEmpty() ? null : status, count));
+            counts.getSource().forEach((source, count) -> stats.addSource(source.isEmpty() ? null : source, count));
+            counts.getMonth().forEach((month, count) -> {
+                if (!month.isEmpty()) {
+                    YearMonth ym = YearMonth.parse(month);
+                    stats.addMonth(ym.getYear(), ym.getMonthValue(), count);
+                }
+            });
+            return stats.toStats();
+        }
 
-        return stats;
-    }
+        for (Object[] row : jobRepository.getStatusCounts(userId)) {
+            stats.addStatus((String) row[0], ((Number) row[1]).longValue());
+        }
+        for (Object[] row : jobRepository.getSourceCounts(userId)) {
+            stats.addSource((String) row[0], ((Number) row[1]).longValue());
+        }
+        for (Object[] row : jobRepository.getMonthlyCounts(userId, stats.getWindowStart(), stats.getWindowEnd())) {
+            stats.addMonth(((Number) row[0]).intValue(), ((Number) row[1]).intValue(), ((Number) row[2]).longValue());
+        }
 
-    private double calculateSuccessRate(Map<String, Long> statusCounts) {
-        long total = statusCounts.values().stream().mapToLong(Long::longValue).sum();
-        if (total == 0) return 0.0;
-        long successful = statusCounts.getOrDefault("Offer", 0L) + statusCounts.getOrDefault("Interview", 0L);
-        return (successful * 100.0) / total;
+        return stats.toStats();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package com.example.JobTracker.Service;
+
+import com.example.JobTracker.Model.JobStat;
+import com.example.JobTracker.Repository.JobStatRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// The read-write half of JobStatsService.getCounts, in its own transaction on the primary. A separate
+// bean so the REQUIRES_NEW boundary goes through the proxy, where DbConcurrencyLimiter charges the
+// second connection it holds to the nested-transaction reserve.
+@Service
+public class JobStatsMaterializer {
+
+    @Autowired
+    private JobStatRepository jobStatRepository;
+
+    // Returns what it wrote
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<JobStat> materialize(Long userId) {
+        jobStatRepository.materialize(userId);
+        return jobStatRepository.findByUserId(userId);
+    }
+
+    // Read-write so it is served by the primary, which has the rows a concurrent materialize committed
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<JobStat> reread(Long userId) {
+        return jobStatRepository.findByUserId(userId);
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.JobTracker.Service;
+
+import com.example.JobTracker.Model.Job;
+import com.example.JobTracker.Model.JobStat;
+import com.example.JobTracker.Repository.JobStatRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Materialized per-user counters in job_stats, kept in step with job writes inside the same transaction
+@Service
+public class JobStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobStatsService.class);
+
+    @Autowired
+    private JobStatRepository jobStatRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JobStatsMaterializer materializer;
+    @Autowired
+    private JobVersionService jobVersions;
+
+    public void recordAdded(Job job) {
+        apply(job.getUserId(), job.getStatus(), job.getSource(), job.getAppliedDate(), 1);
+    }
+
+    public void recordRemoved(Job job) {
+        apply(job.getUserId(), job.getStatus(), job.getSource(), job.getAppliedDate(), -1);
+    }
+
+    // Only dimensions whose value actually changed are touched
+    public void recordChanged(Long userId, String oldStatus, String oldSource, LocalDate oldAppliedDate, Job updated) {
+        if (jobStatRepository.addToTotal(userId, 0) == 0) {
+            return;
+        }
+        if (!key(oldStatus).equals(key(updated.getStatus()))) {
+            jobStatRepository.addToCount(userId, JobStat.STATUS, key(oldStatus), -1);
+            jobStatRepository.addToCount(userId, JobStat.STATUS, key(updated.getStatus()), 1);
+        }
+        if (!key(oldSource).equals(key(updated.getSource()))) {
+            jobStatRepository.addToCount(userId, JobStat.SOURCE, key(oldSource), -1);
+            jobStatRepository.addToCount(userId, JobStat.SOURCE, key(updated.getSource()), 1);
+        }
+        if (!monthKey(oldAppliedDate).equals(monthKey(updated.getAppliedDate()))) {
+            jobStatRepository.addToCount(userId, JobStat.MONTH, monthKey(oldAppliedDate), -1);
+            jobStatRepository.addToCount(userId, JobStat.MONTH, monthKey(updated.getAppliedDate()), 1);
+        }
+    }
+
+    // Single primary-key range read; counters are built from the jobs table the first time.
+    // Materializing writes, so it runs in its own read-write transaction (on the primary when
+    // the caller's read-only transaction is on a replica) and returns what it wrote.
+    @Transactional(readOnly = true)
+    public Counts getCounts(Long userId) {
+        List<JobStat> rows = jobStatRepository.findByUserId(userId);
+        if (rows.isEmpty()) {
+            try {
+                rows = materializer.materialize(userId);
+            } catch (ConcurrencyFailureException e) {
+                // Lost a deadlock to a concurrent first read of the same user; its rows are committed
+                rows = materializer.reread(userId);
+            }
+        }
+
+        Counts counts = new Counts();
+        for (JobStat row : rows) {
+            long value = row.getJobCount();
+            String dimKey = row.getId().getDimKey();
+            switch (row.getId().getDimension()) {
+                case JobStat.TOTAL -> counts.total = value;
+                case JobStat.STATUS -> counts.status.put(dimKey, value);
+                case JobStat.SOURCE -> counts.source.put(dimKey, value);
+                case JobStat.MONTH -> counts.month.put(dimKey, value);
+                default -> { }
+            }
+        }
+        return counts;
+    }
+
+    // Drop the user's counters; they are rebuilt on the next read
+    @Transactional
+    public void invalidate(Long userId) {
+        jobStatRepository.deleteByUserId(userId);
+    }
+
+    @Transactional
+    public void rebuild(Long userId) {
+        jobStatRepository.deleteByUserId(userId);
+        jobStatRepository.materialize(userId);
+    }
+
+    @Transactional
+    public void invalidateAll() {
+        jobStatRepository.deleteAllStats();
+    }
+
+    // Repairs drift from writes that bypassed JobService or failed halfway
+    @Scheduled(fixedDelayString = "${jobs.stats.reconcile-interval:PT6H}",
+            initialDelayString = "${jobs.stats.reconcile-interval:PT6H}")
+    public void reconcile() {
+        List<Long> drifted = jobStatRepository.findDriftedUsers();
+        for (Long userId : drifted) {
+            try {
+                // Called on this instance, so open the per-user transaction explicitly
+                transactionTemplate.executeWithoutResult(status -> {
+                    jobStatRepository.deleteByUserId(userId);
+                    jobStatRepository.materialize(userId);
+                    // The jobs changed behind JobService, so cached list and stats responses are stale too
+                    jobVersions.bump(userId);
+                });
+            } catch (RuntimeException e) {
+                log.warn("Could not rebuild job stats for user {}: {}", userId, e.getMessage());
+            }
+        }
+        if (!drifted.isEmpty()) {
+            log.info("Rebuilt job stats for {} users with drifted counters", drifted.size());
+        }
+    }
+
+    private void apply(Long userId, String status, String source, LocalDate appliedDate, long delta) {
+        if (jobStatRepository.addToTotal(userId, delta) == 0) {
+            return;
+        }
+        jobStatRepository.addToCount(userId, JobStat.STATUS, key(status), delta);
+        jobStatRepository.addToCount(userId, JobStat.SOURCE, key(source), delta);
+        jobStatRepository.addToCount(userId, JobStat.MONTH, monthKey(appliedDate), delta);
+    }
+
+    private static String key(String value) {
+        return value != null ? value : "";
+    }
+
+    private static String monthKey(LocalDate date) {
+        return date != null ? String.format("%04d-%02d", date.getYear(), date.getMonthValue()) : "";
+    }
+
+    public static class Counts {
+        private long total;
+        private final Map<String, Long> status = new HashMap<>();
+        private final Map<String, Long> source = new HashMap<>();
+        private final Map<String, Long> month = new HashMap<>();
+
+        public long getTotal() {
+            return total;
+        }
+
+        // Keyed by stored value; '' stands for NULL
+        public Map<String, Long> getStatus() {
+            return status;
+        }
+
+        public Map<String, Long> getSource() {
+            return source;
+        }
+
+        // Keyed by 'YYYY-MM'
+        public Map<String, Long> getMonth() {
+            return month;
+        }
+    }
+}
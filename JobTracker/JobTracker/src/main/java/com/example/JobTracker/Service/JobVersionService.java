@@ -0,0 +1,65 @@
+package com.example.JobTracker.Service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Per-user counter in job_versions, bumped with every job write so the list and stats endpoints
+// can answer If-None-Match from one primary-key read instead of re-running their queries.
+// Kept in the database rather than in memory so every instance agrees on the current version.
+@Service
+public class JobVersionService {
+
+    // Bump when the JSON shape of the versioned endpoints changes, so cached bodies are not reused
+    private static final String REPRESENTATION = "2";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Joins the caller's transaction, so the version moves exactly when the write commits.
+    // LAST_INSERT_ID(expr) hands the new version back on the same connection without a re-read.
+    public long bump(Long userId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Long version = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (PreparedStatement update = connection.prepareStatement(
+                    "INSERT INTO job_versions (user_id, version, modified_at) VALUES (?, LAST_INSERT_ID(1), ?) " +
+                            "ON DUPLICATE KEY UPDATE version = LAST_INSERT_ID(version + 1), modified_at = ?");
+                 Statement select = connection.createStatement()) {
+                update.setLong(1, userId);
+                update.setTimestamp(2, now);
+                update.setTimestamp(3, now);
+                update.executeUpdate();
+                try (ResultSet rs = select.executeQuery("SELECT LAST_INSERT_ID()")) {
+                    rs.next();
+                    return rs.getLong(1);
+                }
+            }
+        });
+        return version != null ? version : 0;
+    }
+
+    // Read outside any read-only transaction, so it goes to the primary and never trails the data
+    public Version current(Long userId) {
+        List<Version> rows = jdbcTemplate.query(
+                "SELECT version, modified_at FROM job_versions WHERE user_id = ?",
+                (rs, rowNum) -> new Version(userId, rs.getLong("version"), rs.getTimestamp("modified_at").getTime()),
+                userId);
+        return rows.isEmpty() ? new Version(userId, 0, -1) : rows.get(0);
+    }
+
+    // lastModified is -1 when the user's jobs have not changed since versioning was introduced
+    public record Version(Long userId, long version, long lastModified) {
+
+        public String etag(String variant) {
+            return "\"" + REPRESENTATION + "-" + userId + "-" + version + (variant != null ? "-" + variant : "") + "\"";
+        }
+    }
+}
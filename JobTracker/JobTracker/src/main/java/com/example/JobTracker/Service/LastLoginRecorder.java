@@ -0,0 +1,133 @@
+package com.example.JobTracker.Service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Keeps last_login off the login path: logins only record (id -> time) in memory, repeat logins
+// coalesce to the latest time, and each flush writes one UPDATE per table for everything pending.
+// Failed flushes are re-queued, and the queue is drained on graceful shutdown.
+@Service
+public class LastLoginRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(LastLoginRecorder.class);
+
+    private static final String USERS = "users";
+    private static final String ADMINS = "admins";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityCacheService entityCache;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Ids per UPDATE; bounds the CASE expression and IN list
+    @Value("${login.last-login.batch-size:500}")
+    private int batchSize;
+
+    private final Map<Long, Pending> pendingUsers = new ConcurrentHashMap<>();
+    private final Map<Long, Pending> pendingAdmins = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("jobtracker.last_login.pending", this, recorder -> recorder.pendingUsers.size() + recorder.pendingAdmins.size())
+                .register(meterRegistry);
+    }
+
+    public void recordUserLogin(Long userId, String email, LocalDateTime at) {
+        pendingUsers.merge(userId, new Pending(at, email), Pending::latest);
+    }
+
+    public void recordAdminLogin(Long adminId, LocalDateTime at) {
+        pendingAdmins.merge(adminId, new Pending(at, null), Pending::latest);
+    }
+
+    @Scheduled(fixedDelayString = "${login.last-login.flush-interval:PT5S}")
+    public void flush() {
+        Map<Long, Pending> users = drain(pendingUsers);
+        if (!users.isEmpty()) {
+            write(USERS, users, pendingUsers);
+            // Cached UserResponses carry lastLogin
+            users.forEach((id, pending) -> entityCache.evictUser(id, pending.email));
+        }
+
+        Map<Long, Pending> admins = drain(pendingAdmins);
+        if (!admins.isEmpty()) {
+            write(ADMINS, admins, pendingAdmins);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        int left = pendingUsers.size() + pendingAdmins.size();
+        if (left > 0) {
+            log.warn("Shutting down with {} last-login updates not written", left);
+        }
+    }
+
+    private Map<Long, Pending> drain(Map<Long, Pending> pending) {
+        Map<Long, Pending> drained = new HashMap<>();
+        for (Long id : new ArrayList<>(pending.keySet())) {
+            Pending entry = pending.remove(id);
+            if (entry != null) {
+                drained.put(id, entry);
+            }
+        }
+        return drained;
+    }
+
+    // UPDATE t SET last_login = CASE id WHEN ? THEN ? ... END WHERE id IN (...), one statement per batch
+    private void write(String table, Map<Long, Pending> batch, Map<Long, Pending> requeue) {
+        List<Map.Entry<Long, Pending>> entries = new ArrayList<>(batch.entrySet());
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            List<Map.Entry<Long, Pending>> chunk = entries.subList(from, Math.min(entries.size(), from + batchSize));
+
+            StringBuilder sql = new StringBuilder("UPDATE ").append(table).append(" SET last_login = CASE id");
+            List<Object> args = new ArrayList<>(chunk.size() * 3);
+            for (Map.Entry<Long, Pending> entry : chunk) {
+                sql.append(" WHEN ? THEN ?");
+                args.add(entry.getKey());
+                args.add(Timestamp.valueOf(entry.getValue().at));
+            }
+            sql.append(" ELSE last_login END WHERE id IN (");
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+                args.add(chunk.get(i).getKey());
+            }
+            sql.append(")");
+
+            try {
+                jdbcTemplate.update(sql.toString(), args.toArray());
+            } catch (DataAccessException e) {
+                log.warn("Could not write {} last-login updates to {}, will retry: {}", chunk.size(), table, e.getMessage());
+                chunk.forEach(entry -> requeue.merge(entry.getKey(), entry.getValue(), Pending::latest));
+            }
+        }
+    }
+
+    private record Pending(LocalDateTime at, String email) {
+
+        static Pending latest(Pending a, Pending b) {
+            return a.at.isAfter(b.at) ? a : b;
+        }
+    }
+}
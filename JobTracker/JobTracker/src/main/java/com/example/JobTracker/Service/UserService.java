@@ -5,39 +5,58 @@ import com.example.JobTracker.CustomException.*;
 import com.example.JobTracker.Mapper.UserMapper;
 import com.example.JobTracker.Model.User;
 import com.example.JobTracker.Repository.UserRepository;
+import com.example.JobTracker.config.CacheConfig;
+import com.example.JobTracker.config.MetricsConfig;
+import com.example.JobTracker.security.PasswordHashingService;
+import com.example.JobTracker.validation.RequestValidator;
 //import com.example.JobTracker.util.JwtUtil;
 import com.example.JobTracker.util.JwtUtil;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class UserService {
 
     @Autowired
     private UserRepository userRepository;
     @Autowired
     private UserMapper userMapper;
+    @Autowired
+    private LastLoginRecorder lastLoginRecorder;
+    @Autowired
+    private PasswordHashingService passwordHashing;
+    @Autowired
+    private EntityCacheService entityCache;
+    @Autowired
+    private RequestValidator requestValidator;
 
 
     @Autowired
     private JwtUtil jwtUtil;
 
     public UserResponse registerUser(RegisterRequest dto) {
-        validateRegistration(dto);
-        if (userRepository.existsByEmail(dto.getEmail())) {
-            throw new EmailAlreadyExistsException(dto.getEmail());
+        Map<String, String> errors = requestValidator.registrationErrors(dto);
+        // One uniqueness lookup, and only for a well-formed address
+        if (!errors.containsKey("email") && userRepository.existsByEmail(dto.getEmail())) {
+            errors.put("email", "Email already exists");
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Validation failed", errors);
         }
 
         User user = new User();
         user.setName(dto.getName());
         user.setEmail(dto.getEmail());
-        user.setPassword(dto.getPassword());
+        user.setPassword(passwordHashing.hash(dto.getPassword()));
         user.setRole("USER");
         user.setIsActive(true);
         user.setCreatedAt(LocalDateTime.now());
@@ -46,43 +65,13 @@ public class UserService {
         User savedUser = userRepository.save(user);
         return  userMapper.toresponse(savedUser);
     }
-    private void validateRegistration(RegisterRequest dto) {
-        Map<String, String> errors = new HashMap<>();
-
-        if (dto.getEmail() == null || dto.getEmail().trim().isEmpty()) {
-            errors.put("email", "Email is required");
-        } else if (!dto.getEmail().matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
-            errors.put("email", "Invalid email format");
-        } else if (userRepository.existsByEmail(dto.getEmail())) {
-            errors.put("email", "Email already exists");
-        }
-
-        if (dto.getName() == null || dto.getName().trim().isEmpty()) {
-            errors.put("name", "Name is required");
-        } else if (dto.getName().length() < 2) {
-            errors.put("name", "Name must be at least 2 characters");
-        }
-
-        if (dto.getPassword() == null || dto.getPassword().trim().isEmpty()) {
-            errors.put("password", "Password is required");
-        } else if (dto.getPassword().length() < 8) {
-            errors.put("password", "Password must be at least 8 characters");
-        } else if (!dto.getPassword().matches(".*\\d.*")) {
-            errors.put("password", "Password must include a number");
-        } else if (!dto.getPassword().matches(".*[A-Z].*")) {
-            errors.put("password", "Password must include an uppercase letter");
-        }
-
-        if (!errors.isEmpty()) {
-            throw new ValidationException("Validation failed", errors);
-        }
-    }
 
     public LoginResponse loginUser(LoginRequest dto) {
         User user = userRepository.findByEmail(dto.getEmail())
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
 
-        if (!user.getPassword().equals(dto.getPassword())) {
+        PasswordHashingService.Verification verification = passwordHashing.verify(dto.getPassword(), user.getPassword());
+        if (!verification.matches()) {
             throw new InvalidCredentialsException();
         }
 
@@ -90,8 +79,16 @@ public class UserService {
             throw new InvalidCredentialsException("Account is deactivated");
         }
 
+        // Legacy or weaker hash: upgrade it without holding up the login
+        if (verification.needsRehash()) {
+            String oldHash = user.getPassword();
+            passwordHashing.rehashInBackground(dto.getPassword(),
+                    newHash -> userRepository.replacePasswordHash(user.getId(), newHash, oldHash));
+        }
+
+        // Written asynchronously; the response already reflects this login
         user.setLastLogin(LocalDateTime.now());
-        userRepository.save(user);
+        lastLoginRecorder.recordUserLogin(user.getId(), user.getEmail(), user.getLastLogin());
 
         String token = jwtUtil.generateToken(user.getId(), user.getEmail(), user.getRole());
 //        String token="dummy-token-for-testing";
@@ -100,6 +97,7 @@ public class UserService {
         return new LoginResponse(true, "Login successful", token, userResponse);
     }
 
+    @Transactional(readOnly = true)
     public List<UserResponse> getAllUsers() {
         List<User> users = userRepository.findAll();
         return users.stream()
@@ -107,12 +105,14 @@ public class UserService {
                 .collect(Collectors.toList());
     }
 
+    @Cacheable(value = CacheConfig.USERS, key = "#id")
     public UserResponse getUserById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException(id));
         return userMapper.toresponse(user);
     }
 
+    @Cacheable(value = CacheConfig.USERS_BY_EMAIL, key = "#email")
     public UserResponse getUserByEmail(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("User not found with email: " + email));
@@ -129,6 +129,7 @@ public class UserService {
         user.setUpdatedAt(LocalDateTime.now());
 
         User updatedUser = userRepository.save(user);
+        entityCache.evictUser(updatedUser);
         return userMapper.toresponse(updatedUser);
     }
 
@@ -136,11 +137,11 @@ public class UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException(id));
 
-        if (!user.getPassword().equals(dto.getOldPassword())) {
+        if (!passwordHashing.verify(dto.getOldPassword(), user.getPassword()).matches()) {
             throw new InvalidCredentialsException("Old password is incorrect");
         }
 
-        user.setPassword(dto.getNewPassword());
+        user.setPassword(passwordHashing.hash(dto.getNewPassword()));
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
     }
@@ -153,13 +154,14 @@ public class UserService {
         user.setUpdatedAt(LocalDateTime.now());
 
         User updatedUser = userRepository.save(user);
+        entityCache.evictUser(updatedUser);
         return userMapper.toresponse(updatedUser);
     }
 
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new UserNotFoundException(id);
-        }
-        userRepository.deleteById(id);
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException(id));
+        userRepository.delete(user);
+        entityCache.evictUser(user);
     }
 }
\ No newline at end of file
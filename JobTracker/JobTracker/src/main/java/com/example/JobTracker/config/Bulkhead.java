@@ -0,0 +1,15 @@
+package com.example.JobTracker.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Caps how many requests run concurrently inside the named compartment (db.bulkhead.<name>.*),
+// so heavy endpoints can only ever hold a slice of the connection pool. A method-level
+// annotation overrides the class-level one.
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+    String value();
+}
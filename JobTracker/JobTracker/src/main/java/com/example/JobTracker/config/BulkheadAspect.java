@@ -0,0 +1,73 @@
+package com.example.JobTracker.config;
+
+import com.example.JobTracker.CustomException.ServiceBusyException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Aspect
+@Component
+public class BulkheadAspect {
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, Compartment> compartments = new ConcurrentHashMap<>();
+
+    @Around("@within(com.example.JobTracker.config.Bulkhead) || @annotation(com.example.JobTracker.config.Bulkhead)")
+    public Object guard(ProceedingJoinPoint joinPoint) throws Throwable {
+        Bulkhead bulkhead = resolve(joinPoint);
+        if (bulkhead == null || !environment.getProperty("db.bulkhead.enabled", Boolean.class, true)) {
+            return joinPoint.proceed();
+        }
+
+        Compartment compartment = compartments.computeIfAbsent(bulkhead.value(), this::createCompartment);
+        if (!compartment.permits.tryAcquire(compartment.maxWaitMs, TimeUnit.MILLISECONDS)) {
+            meterRegistry.counter("jobtracker.bulkhead.rejected", "bulkhead", bulkhead.value()).increment();
+            throw new ServiceBusyException("Too many concurrent " + bulkhead.value() + " requests, please retry");
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            compartment.permits.release();
+        }
+    }
+
+    private Bulkhead resolve(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Bulkhead bulkhead = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), Bulkhead.class);
+        if (bulkhead == null) {
+            bulkhead = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), Bulkhead.class);
+        }
+        return bulkhead;
+    }
+
+    private Compartment createCompartment(String name) {
+        int maxConcurrent = environment.getProperty("db.bulkhead." + name + ".max-concurrent", Integer.class, 4);
+        long maxWaitMs = environment.getProperty("db.bulkhead." + name + ".max-wait-ms", Long.class, 500L);
+
+        Compartment compartment = new Compartment(new Semaphore(maxConcurrent, true), maxWaitMs);
+        Gauge.builder("jobtracker.bulkhead.available", compartment.permits, Semaphore::availablePermits)
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        return compartment;
+    }
+
+    private record Compartment(Semaphore permits, long maxWaitMs) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.JobTracker.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String USERS = "users";
+    public static final String USERS_BY_EMAIL = "usersByEmail";
+    public static final String JOBS = "jobs";
+
+    // caffeine (bounded W-TinyLFU) or none
+    @Value("${cache.provider:caffeine}")
+    private String provider;
+
+    @Value("${cache.users.ttl:10m}")
+    private Duration userTtl;
+
+    @Value("${cache.users.max-size:10000}")
+    private long userMaxSize;
+
+    @Value("${cache.jobs.ttl:5m}")
+    private Duration jobTtl;
+
+    @Value("${cache.jobs.max-size:50000}")
+    private long jobMaxSize;
+
+    @Bean
+    public CacheManager cacheManager() {
+        if ("none".equalsIgnoreCase(provider)) {
+            return new NoOpCacheManager();
+        }
+
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        manager.setAllowNullValues(false);
+        manager.registerCustomCache(USERS, caffeine(userTtl, userMaxSize));
+        manager.registerCustomCache(USERS_BY_EMAIL, caffeine(userTtl, userMaxSize));
+        manager.registerCustomCache(JOBS, caffeine(jobTtl, jobMaxSize));
+        return manager;
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> caffeine(Duration ttl, long maxSize) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+}
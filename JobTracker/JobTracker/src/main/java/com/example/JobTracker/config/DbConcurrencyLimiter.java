@@ -0,0 +1,115 @@
+package com.example.JobTracker.config;
+
+import com.example.JobTracker.CustomException.ServiceBusyException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// With virtual threads nothing caps how many requests reach the database at once, so thousands
+// of them can pile onto Hikari and time out together. This bounds concurrent database work
+// to the pool size: a permit is taken at the outermost transactional service method or
+// repository call (before the transaction interceptor borrows a connection) and nested calls
+// on the same thread reuse it. A nested REQUIRES_NEW method holds a second connection, so it
+// takes one of nested-reserve separate permits instead; outer work gets the rest of the pool.
+// Reserve holders never wait on outer permits, so the two can not deadlock. Callers that cannot
+// get a permit in time get a 503.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "db.limiter.enabled", havingValue = "true")
+public class DbConcurrencyLimiter {
+
+    private static final ThreadLocal<Integer> DEPTH = ThreadLocal.withInitial(() -> 0);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${db.limiter.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}")
+    private int maxConcurrent;
+
+    // Part of max-concurrent set aside for nested REQUIRES_NEW transactions (one level deep)
+    @Value("${db.limiter.nested-reserve:2}")
+    private int nestedReserve;
+
+    @Value("${db.limiter.acquire-timeout-ms:2000}")
+    private long acquireTimeoutMs;
+
+    private Semaphore permits;
+    private Semaphore nestedPermits;
+
+    @PostConstruct
+    void init() {
+        if (nestedReserve < 1 || nestedReserve >= maxConcurrent) {
+            throw new IllegalStateException("db.limiter.nested-reserve must be between 1 and max-concurrent - 1");
+        }
+        permits = new Semaphore(maxConcurrent - nestedReserve, true);
+        nestedPermits = new Semaphore(nestedReserve, true);
+        Gauge.builder("jobtracker.db.limiter.available", permits, Semaphore::availablePermits).register(meterRegistry);
+        Gauge.builder("jobtracker.db.limiter.queued", permits, Semaphore::getQueueLength).register(meterRegistry);
+        Gauge.builder("jobtracker.db.limiter.nested.available", nestedPermits, Semaphore::availablePermits).register(meterRegistry);
+    }
+
+    @Around("execution(* com.example.JobTracker.Repository..*(..))"
+            + " || @annotation(org.springframework.transaction.annotation.Transactional)"
+            + " || @within(org.springframework.transaction.annotation.Transactional)")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        int depth = DEPTH.get();
+        if (depth > 0) {
+            Semaphore extra = opensNewTransaction(joinPoint) ? nestedPermits : null;
+            if (extra != null) {
+                acquire(extra);
+            }
+            DEPTH.set(depth + 1);
+            try {
+                return joinPoint.proceed();
+            } finally {
+                DEPTH.set(depth);
+                if (extra != null) {
+                    extra.release();
+                }
+            }
+        }
+
+        acquire(permits);
+        DEPTH.set(1);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            DEPTH.remove();
+            permits.release();
+        }
+    }
+
+    private void acquire(Semaphore semaphore) throws InterruptedException {
+        if (!semaphore.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+            meterRegistry.counter("jobtracker.db.limiter.rejected").increment();
+            throw new ServiceBusyException();
+        }
+    }
+
+    private static boolean opensNewTransaction(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(method, Transactional.class);
+        if (transactional == null) {
+            transactional = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), Transactional.class);
+        }
+        return transactional != null && transactional.propagation() == Propagation.REQUIRES_NEW;
+    }
+}
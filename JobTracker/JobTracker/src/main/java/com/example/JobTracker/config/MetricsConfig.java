@@ -0,0 +1,22 @@
+package com.example.JobTracker.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Controllers are timed by Spring MVC (http.server.requests, tagged by uri template),
+// repositories by Spring Data (spring.data.repository.invocations) and the pool by Hikari.
+// This adds the aspect behind @Timed so service methods get jobtracker.service timers.
+@Configuration
+public class MetricsConfig {
+
+    public static final String SERVICE_TIMER = "jobtracker.service";
+    public static final String AUTH_COUNTER = "jobtracker.auth";
+    public static final String RATE_LIMIT_COUNTER = "jobtracker.ratelimit";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.JobTracker.config;
+
+import com.example.JobTracker.datasource.ReadYourWrites;
+import com.example.JobTracker.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Only active when datasource.replica.urls is set; otherwise Boot's single auto-configured pool is used.
+// Primary and replica pools share the spring.datasource.hikari.* tuning.
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.urls")
+public class ReplicaDataSourceConfig {
+
+    private ReplicaRoutingDataSource routing;
+
+    @Bean
+    @Primary
+    public DataSource dataSource(Environment environment, MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = pool(binder, meterRegistry, "jobtracker-primary",
+                environment.getRequiredProperty("spring.datasource.url"),
+                environment.getProperty("spring.datasource.username"),
+                environment.getProperty("spring.datasource.password"));
+
+        List<String> urls = binder.bind("datasource.replica.urls", Bindable.listOf(String.class)).get();
+        String username = environment.getProperty("datasource.replica.username", environment.getProperty("spring.datasource.username"));
+        String password = environment.getProperty("datasource.replica.password", environment.getProperty("spring.datasource.password"));
+        Integer replicaPoolSize = environment.getProperty("datasource.replica.maximum-pool-size", Integer.class);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            String name = "replica-" + i;
+            HikariDataSource replica = pool(binder, meterRegistry, "jobtracker-" + name, urls.get(i).trim(), username, password);
+            replica.setReadOnly(true);
+            if (replicaPoolSize != null) {
+                replica.setMaximumPoolSize(replicaPoolSize);
+            }
+            replicas.put(name, replica);
+        }
+
+        Duration stickyWindow = environment.getProperty("datasource.replica.sticky-window", Duration.class, Duration.ofSeconds(5));
+        long maxLagSeconds = environment.getProperty("datasource.replica.max-lag-seconds", Long.class, 2L);
+        routing = new ReplicaRoutingDataSource(primary, replicas, new ReadYourWrites(stickyWindow.toMillis()), maxLagSeconds);
+
+        for (String name : routing.getReplicaNames()) {
+            Gauge.builder("jobtracker.datasource.replica.lag", routing, r -> r.getLagSeconds(name))
+                    .tag("replica", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+
+        // The read-only flag is only known once the transaction has started, so defer the physical connection
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:PT5S}")
+    public void checkReplicas() {
+        if (routing != null) {
+            routing.checkReplicas();
+        }
+    }
+
+    private HikariDataSource pool(Binder binder, MeterRegistry meterRegistry, String poolName,
+                                  String url, String username, String password) {
+        HikariDataSource pool = new HikariDataSource();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(poolName);
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.JobTracker.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Warns at startup when an index the per-user query paths rely on is missing
+@Component
+@ConditionalOnProperty(name = "schema.index-check.enabled", havingValue = "true", matchIfMissing = true)
+public class SchemaIndexVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaIndexVerifier.class);
+
+    // table -> leading columns an index must start with
+    private static final Map<String, List<List<String>>> REQUIRED = Map.of(
+            "jobs", List.of(
+                    List.of("user_id", "applied_date"),
+                    List.of("user_id", "status"),
+                    List.of("user_id", "source")
+            ),
+            "users", List.of(
+                    List.of("email")
+            )
+    );
+
+    // Unique lookups must be backed by a unique index
+    private static final Map<String, List<String>> REQUIRED_UNIQUE = Map.of(
+            "users", List.of("email")
+    );
+
+    @Autowired
+    private DataSource dataSource;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            List<String> missing = new ArrayList<>();
+
+            for (Map.Entry<String, List<List<String>>> table : REQUIRED.entrySet()) {
+                Map<String, IndexColumns> indexes = readIndexes(metaData, connection.getCatalog(), table.getKey());
+                for (List<String> columns : table.getValue()) {
+                    boolean unique = columns.equals(REQUIRED_UNIQUE.get(table.getKey()));
+                    if (indexes.values().stream().noneMatch(index -> index.covers(columns, unique))) {
+                        missing.add(table.getKey() + (unique ? " UNIQUE " : " ") + columns);
+                    }
+                }
+            }
+
+            if (missing.isEmpty()) {
+                log.info("Schema index check passed");
+            } else {
+                log.warn("Missing indexes, affected queries will scan: {}", missing);
+            }
+        } catch (SQLException e) {
+            log.warn("Schema index check skipped: {}", e.getMessage());
+        }
+    }
+
+    private Map<String, IndexColumns> readIndexes(DatabaseMetaData metaData, String catalog, String table)
+            throws SQLException {
+        Map<String, IndexColumns> indexes = new TreeMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(catalog, null, table, false, true)) {
+            while (rs.next()) {
+                String name = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (name == null || column == null) {
+                    continue;
+                }
+                IndexColumns index = indexes.computeIfAbsent(name, n -> new IndexColumns());
+                index.unique = index.unique || !rs.getBoolean("NON_UNIQUE");
+                index.columns.put(rs.getInt("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+            }
+        }
+        return indexes;
+    }
+
+    private static final class IndexColumns {
+        private final Map<Integer, String> columns = new TreeMap<>();
+        private boolean unique;
+
+        private boolean covers(List<String> leading, boolean requireUnique) {
+            if (requireUnique && !unique) {
+                return false;
+            }
+            List<String> ordered = new ArrayList<>(columns.values());
+            return ordered.size() >= leading.size() && ordered.subList(0, leading.size()).equals(leading);
+        }
+    }
+}
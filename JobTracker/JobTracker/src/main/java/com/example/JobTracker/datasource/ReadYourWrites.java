@@ -0,0 +1,57 @@
+package com.example.JobTracker.datasource;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Remembers when each user last wrote so their reads stay on the primary until replicas have caught up.
+// Keyed by the userId the JWT filter puts on the request; work outside a request is never sticky.
+public class ReadYourWrites {
+
+    private final Map<Long, Long> lastWrite = new ConcurrentHashMap<>();
+    private final long windowMs;
+
+    public ReadYourWrites(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    public void markWrite() {
+        Long userId = currentUserId();
+        if (userId != null) {
+            lastWrite.put(userId, System.currentTimeMillis());
+        }
+    }
+
+    public boolean isSticky() {
+        Long userId = currentUserId();
+        if (userId == null) {
+            return false;
+        }
+        Long at = lastWrite.get(userId);
+        if (at == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - at > windowMs) {
+            lastWrite.remove(userId, at);
+            return false;
+        }
+        return true;
+    }
+
+    // Drops expired marks so the map only holds users who wrote within the window
+    public void purge() {
+        long cutoff = System.currentTimeMillis() - windowMs;
+        lastWrite.values().removeIf(at -> at < cutoff);
+    }
+
+    private static Long currentUserId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object userId = attributes.getAttribute("userId", RequestAttributes.SCOPE_REQUEST);
+        return userId instanceof Long id ? id : null;
+    }
+}
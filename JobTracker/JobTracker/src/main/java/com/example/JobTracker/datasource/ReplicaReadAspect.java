@@ -0,0 +1,27 @@
+package com.example.JobTracker.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// Only read-only transactions declared on our services may go to a replica. Spring Data's implicit
+// read-only repository methods (e.g. the login lookup) keep reading from the primary.
+@Aspect
+@Component
+public class ReplicaReadAspect {
+
+    @Around("execution(* com.example.JobTracker.Service..*(..)) && @annotation(transactional)")
+    public Object routeToReplica(ProceedingJoinPoint joinPoint, Transactional transactional) throws Throwable {
+        if (!transactional.readOnly()) {
+            return joinPoint.proceed();
+        }
+        ReplicaRoutingDataSource.enterReplicaRead();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReplicaRoutingDataSource.exitReplicaRead();
+        }
+    }
+}
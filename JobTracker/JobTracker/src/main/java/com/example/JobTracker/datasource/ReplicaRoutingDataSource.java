@@ -0,0 +1,224 @@
+package com.example.JobTracker.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Sends read-only service transactions (see ReplicaReadAspect) to a healthy replica and everything
+// else to the primary. Replicas only join rotation once a lag check has cleared them (reads use the
+// primary until then), drop out when they lag past maxLagSeconds or fail to connect, and users who
+// just wrote are kept on the primary (ReadYourWrites).
+// Must sit behind a LazyConnectionDataSourceProxy so the read-only flag is known when routing.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    // readLag result when the server reports no replication at all
+    private static final long NOT_REPLICATING = -1;
+    private static final ThreadLocal<Integer> REPLICA_READS = ThreadLocal.withInitial(() -> 0);
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReadYourWrites readYourWrites;
+    private final long maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    ReadYourWrites readYourWrites, long maxLagSeconds) {
+        this.primary = primary;
+        this.readYourWrites = readYourWrites;
+        this.maxLagSeconds = maxLagSeconds;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach((name, dataSource) -> {
+            targets.put(name, dataSource);
+            this.replicas.add(new Replica(name, dataSource));
+        });
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    static void enterReplicaRead() {
+        REPLICA_READS.set(REPLICA_READS.get() + 1);
+    }
+
+    static void exitReplicaRead() {
+        int depth = REPLICA_READS.get() - 1;
+        if (depth <= 0) {
+            REPLICA_READS.remove();
+        } else {
+            REPLICA_READS.set(depth);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (!readOnly) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWrites.markWrite();
+            }
+            return PRIMARY;
+        }
+        if (REPLICA_READS.get() == 0 || readYourWrites.isSticky()) {
+            return PRIMARY;
+        }
+        Replica replica = pickReplica();
+        return replica != null ? replica.name : PRIMARY;
+    }
+
+    // A replica that refuses connections is taken out of rotation and the read falls back to the primary
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+        Replica replica = find(key);
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            replica.markDown("connection failed: " + e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    // Called on a schedule; a server with no replica status is not replicating and never serves reads
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(2);
+                Long lag = readLag(statement);
+                if (lag == null) {
+                    replica.markDown("replication stopped");
+                } else if (lag == NOT_REPLICATING) {
+                    replica.markDown("no replica status, replication not configured");
+                } else if (lag > maxLagSeconds) {
+                    replica.lagSeconds = lag;
+                    replica.markDown("lag " + lag + "s over " + maxLagSeconds + "s");
+                } else {
+                    replica.lagSeconds = lag;
+                    replica.markUp();
+                }
+            } catch (SQLException e) {
+                replica.markDown("lag check failed: " + e.getMessage());
+            }
+        }
+        readYourWrites.purge();
+    }
+
+    public Map<String, Object> getReplicaStatus() {
+        Map<String, Object> status = new HashMap<>();
+        for (Replica replica : replicas) {
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("healthy", replica.healthy);
+            entry.put("lagSeconds", replica.lagSeconds);
+            entry.put("reason", replica.reason);
+            status.put(replica.name, entry);
+        }
+        return status;
+    }
+
+    public double getLagSeconds(String name) {
+        Replica replica = find(name);
+        return replica != null ? replica.lagSeconds : -1;
+    }
+
+    public List<String> getReplicaNames() {
+        return replicas.stream().map(replica -> replica.name).toList();
+    }
+
+    private Long readLag(Statement statement) throws SQLException {
+        try {
+            return queryLag(statement, "SHOW REPLICA STATUS", "Seconds_Behind_Source");
+        } catch (SQLException e) {
+            // MySQL before 8.0.22
+            return queryLag(statement, "SHOW SLAVE STATUS", "Seconds_Behind_Master");
+        }
+    }
+
+    private Long queryLag(Statement statement, String sql, String column) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(sql)) {
+            if (!rs.next()) {
+                return NOT_REPLICATING;
+            }
+            long lag = rs.getLong(column);
+            return rs.wasNull() ? null : lag;
+        }
+    }
+
+    private Replica pickReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private Replica find(Object key) {
+        for (Replica replica : replicas) {
+            if (replica.name.equals(key)) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private static class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        // Out of rotation until the first lag check has verified it
+        private volatile boolean healthy;
+        private volatile boolean checked;
+        private volatile long lagSeconds;
+        private volatile String reason = "awaiting first lag check";
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        void markDown(String why) {
+            if (healthy || !checked) {
+                log.warn("Replica {} out of rotation: {}", name, why);
+            }
+            checked = true;
+            healthy = false;
+            reason = why;
+        }
+
+        void markUp() {
+            if (!healthy) {
+                log.info("Replica {} in rotation", name);
+            }
+            checked = true;
+            healthy = true;
+            reason = null;
+        }
+    }
+}
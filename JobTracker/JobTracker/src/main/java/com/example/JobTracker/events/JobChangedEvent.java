@@ -0,0 +1,15 @@
+package com.example.JobTracker.events;
+
+import com.example.JobTracker.DTO.JobResponse;
+
+// Published by job writes and applied after commit by the job cache, the search index and the
+// event stream; a rolled-back write reaches none of them. version is the user's
+// job_versions value after the write; job is null for deletes and resyncs.
+public record JobChangedEvent(Long userId, String type, Long jobId, JobResponse job, long version) {
+
+    public static final String ADDED = "job-added";
+    public static final String UPDATED = "job-updated";
+    public static final String DELETED = "job-deleted";
+    // Too much changed to describe (bulk import, dropped backlog): clients refetch
+    public static final String RESYNC = "resync";
+}
@@ -0,0 +1,310 @@
+package com.example.JobTracker.events;
+
+import com.example.JobTracker.CustomException.ServiceBusyException;
+import com.example.JobTracker.Service.JobService;
+import com.example.JobTracker.Service.JobVersionService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Pushes job changes to each user's open event streams (GET /api/jobs/stream) so dashboards can
+// stop polling. Publishing only offers to bounded per-subscriber queues; each queue is drained on
+// its own virtual thread, so a slow client stalls nobody else. A subscriber that falls a whole
+// buffer behind loses its backlog and gets one "resync" instead. Event ids are the user's
+// job_versions value: a client that sees a gap, or reconnects with an old Last-Event-ID, refetches.
+@Component
+public class JobEventBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(JobEventBroadcaster.class);
+
+    private static final Message HEARTBEAT = new Message(null, null, null);
+
+    @Autowired
+    private JobService jobService;
+    @Autowired
+    private JobVersionService jobVersionService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${jobs.events.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${jobs.events.max-per-user:5}")
+    private int maxPerUser;
+
+    @Value("${jobs.events.max-subscribers:5000}")
+    private int maxSubscribers;
+
+    // Clients reconnect when the stream times out; EventSource clients need a fresh stream token
+    // (POST /api/jobs/stream-token) for that, see JwtAuthenticationFilter
+    @Value("${jobs.events.timeout:PT30M}")
+    private Duration timeout;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Map<Long, List<JobChangedEvent>> pending = new ConcurrentHashMap<>();
+    private ExecutorService dispatcher;
+    private TransactionTemplate primaryRead;
+
+    @PostConstruct
+    void init() {
+        dispatcher = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("job-events-", 0).factory());
+        primaryRead = new TransactionTemplate(transactionManager);
+        Gauge.builder("jobtracker.events.subscribers", subscriberCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    // Before graceful shutdown starts waiting on in-flight requests, which open streams would hold up
+    @EventListener(ContextClosedEvent.class)
+    public void closeStreams() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        if (subscriberCount.get() >= maxSubscribers) {
+            throw new ServiceBusyException("Too many open event streams, please retry");
+        }
+
+        Subscriber subscriber = new Subscriber(userId, new SseEmitter(timeout.toMillis()));
+        subscribers.compute(userId, (id, set) -> {
+            Set<Subscriber> mine = set != null ? set : ConcurrentHashMap.newKeySet();
+            if (mine.size() >= maxPerUser) {
+                throw new ServiceBusyException("Too many open event streams for this user");
+            }
+            mine.add(subscriber);
+            return mine;
+        });
+        subscriberCount.incrementAndGet();
+
+        SseEmitter emitter = subscriber.emitter;
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // A reconnecting client that missed writes is told to refetch before any new delta
+        long version = jobVersionService.current(userId).version();
+        boolean missed = lastEventId != null && !lastEventId.equals(Long.toString(version));
+        Map<String, Object> hello = new HashMap<>();
+        hello.put("type", missed ? JobChangedEvent.RESYNC : "connected");
+        hello.put("version", version);
+        subscriber.offer(new Message(missed ? JobChangedEvent.RESYNC : "connected", version, hello));
+        return emitter;
+    }
+
+    // Runs on the writing thread after commit and only queues the event; the stats read and the
+    // fan-out happen on the dispatcher, once per user for everything queued since the last run
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.userId());
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        AtomicBoolean start = new AtomicBoolean();
+        pending.compute(event.userId(), (id, events) -> {
+            List<JobChangedEvent> queued = events;
+            if (queued == null) {
+                queued = new ArrayList<>();
+                start.set(true);
+            }
+            queued.add(event);
+            return queued;
+        });
+        if (start.get()) {
+            try {
+                dispatcher.execute(() -> publishPending(event.userId()));
+            } catch (RejectedExecutionException e) {
+                pending.remove(event.userId());
+            }
+        }
+    }
+
+    // One publisher per user at a time: the user's key stays in pending (possibly with an empty
+    // list) while this runs, so events queued meanwhile are picked up here, in order
+    private void publishPending(Long userId) {
+        while (true) {
+            List<JobChangedEvent> batch = new ArrayList<>();
+            pending.computeIfPresent(userId, (id, events) -> {
+                batch.addAll(events);
+                return events.isEmpty() ? null : new ArrayList<>();
+            });
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                publish(userId, batch);
+            } catch (RuntimeException e) {
+                // Keep looping: returning here would leave the key behind and stall this user's events
+                log.warn("Could not publish job events for user {}: {}", userId, e.getMessage());
+            }
+        }
+    }
+
+    private void publish(Long userId, List<JobChangedEvent> batch) {
+        Set<Subscriber> targets = subscribers.get(userId);
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> stats;
+        try {
+            // Read-write so the read is served by the primary: off the request thread ReadYourWrites
+            // cannot pin it, and a replica may not have the write yet
+            stats = primaryRead.execute(status -> jobService.getStatistics(userId));
+        } catch (RuntimeException e) {
+            log.warn("Could not read job stats for user {}, asking streams to resync: {}", userId, e.getMessage());
+            Map<String, Object> resync = new HashMap<>();
+            resync.put("type", JobChangedEvent.RESYNC);
+            Message message = new Message(JobChangedEvent.RESYNC, null, resync);
+            targets.forEach(subscriber -> subscriber.offer(message));
+            return;
+        }
+
+        // Counts are as of the read, so every event in the batch carries the latest ones
+        for (JobChangedEvent event : batch) {
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("type", event.type());
+            payload.put("version", event.version());
+            payload.put("jobId", event.jobId());
+            payload.put("job", event.job());
+            payload.put("statusCounts", stats.get("statusCounts"));
+            payload.put("totalJobs", stats.get("totalJobs"));
+
+            Message message = new Message(event.type(), event.version(), payload);
+            for (Subscriber subscriber : targets) {
+                subscriber.offer(message);
+            }
+        }
+    }
+
+    // Keeps proxies from closing idle streams and finds clients that went away
+    @Scheduled(fixedDelayString = "${jobs.events.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.offer(HEARTBEAT)));
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.userId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    // name == null is a heartbeat comment
+    private record Message(String name, Long id, Object data) {
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("keepalive");
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(data);
+            return id != null ? event.id(Long.toString(id)) : event;
+        }
+    }
+
+    private final class Subscriber {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Message> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean overflowed;
+
+        Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        // Never blocks the publisher
+        void offer(Message message) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(message)) {
+                overflowed = true;
+                queue.clear();
+                meterRegistry.counter("jobtracker.events.overflow").increment();
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                dispatcher.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!closed.get()) {
+                    if (overflowed) {
+                        overflowed = false;
+                        Map<String, Object> resync = new HashMap<>();
+                        resync.put("type", JobChangedEvent.RESYNC);
+                        emitter.send(new Message(JobChangedEvent.RESYNC, null, resync).toEvent());
+                    }
+                    Message message = queue.poll();
+                    if (message == null) {
+                        break;
+                    }
+                    emitter.send(message.toEvent());
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the stream already completed
+                log.debug("Closing event stream for user {}: {}", userId, e.getMessage());
+                remove(this);
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+            }
+            if (!closed.get() && (overflowed || !queue.isEmpty())) {
+                schedule();
+            }
+        }
+    }
+}
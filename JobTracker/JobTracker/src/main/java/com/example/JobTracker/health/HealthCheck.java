@@ -0,0 +1,57 @@
+package com.example.JobTracker.health;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Result of one readiness sample for a single dependency
+public class HealthCheck {
+    private final String name;
+    private final boolean healthy;
+    private final String reason;
+    private final Map<String, Object> details = new LinkedHashMap<>();
+
+    private HealthCheck(String name, boolean healthy, String reason) {
+        this.name = name;
+        this.healthy = healthy;
+        this.reason = reason;
+    }
+
+    public static HealthCheck healthy(String name) {
+        return new HealthCheck(name, true, null);
+    }
+
+    public static HealthCheck degraded(String name, String reason) {
+        return new HealthCheck(name, false, reason);
+    }
+
+    public HealthCheck with(String key, Object value) {
+        details.put(key, value);
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public Map<String, Object> getDetails() {
+        return details;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("status", healthy ? "UP" : "DEGRADED");
+        if (reason != null) {
+            map.put("reason", reason);
+        }
+        map.putAll(details);
+        return map;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.JobTracker.health;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.boot.health.contributor.Status;
+import org.springframework.stereotype.Component;
+
+// Surfaces the monitor's last sample under /actuator/health/dependencies without touching the database
+@Component("dependencies")
+public class ReadinessHealthIndicator implements HealthIndicator {
+
+    @Autowired
+    private ReadinessMonitor readinessMonitor;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = readinessMonitor.isReady() ? Health.up() : Health.status(Status.OUT_OF_SERVICE);
+        for (HealthCheck check : readinessMonitor.getLastChecks()) {
+            builder.withDetail(check.getName(), check.toMap());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,286 @@
+package com.example.JobTracker.health;
+
+import com.example.JobTracker.Service.EntityCacheService;
+import com.example.JobTracker.datasource.ReplicaRoutingDataSource;
+import com.example.JobTracker.search.JobSearchIndex;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Samples the database, connection pool, JVM and warm state on a fixed delay and flips the
+// readiness state after consecutive degraded (or healthy) samples, so the load balancer drains
+// an instance before its latency spikes instead of after. Probes only read the last sample.
+@Component
+public class ReadinessMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadinessMonitor.class);
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private ApplicationAvailability availability;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private EntityCacheService entityCache;
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    @Value("${health.readiness.enabled:true}")
+    private boolean enabled;
+
+    // Consecutive samples needed before readiness flips either way
+    @Value("${health.readiness.failure-threshold:3}")
+    private int failureThreshold;
+
+    @Value("${health.readiness.recovery-threshold:2}")
+    private int recoveryThreshold;
+
+    @Value("${health.db.max-latency-ms:250}")
+    private long dbMaxLatencyMs;
+
+    @Value("${health.db.timeout-seconds:2}")
+    private int dbTimeoutSeconds;
+
+    // Pool counts as saturated when this share of connections is busy and threads are queuing
+    @Value("${health.pool.max-saturation:0.9}")
+    private double poolMaxSaturation;
+
+    @Value("${health.pool.max-pending:0}")
+    private int poolMaxPending;
+
+    // Live heap after the last collection, as a share of max heap
+    @Value("${health.jvm.max-heap-after-gc:0.9}")
+    private double maxHeapAfterGc;
+
+    // Share of wall time spent in GC since the previous sample
+    @Value("${health.jvm.max-gc-time-ratio:0.2}")
+    private double maxGcTimeRatio;
+
+    private volatile boolean started;
+    private volatile List<HealthCheck> lastChecks = List.of();
+    private volatile long lastSampleAt;
+    private int degradedStreak;
+    private int healthyStreak;
+    private long lastGcTimeMs = -1;
+    private long lastGcSampleNanos;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        started = true;
+        sample();
+    }
+
+    @Scheduled(fixedDelayString = "${health.readiness.sample-interval:PT5S}")
+    public synchronized void sample() {
+        if (!started) {
+            return;
+        }
+
+        List<HealthCheck> checks = new ArrayList<>();
+        checks.add(checkDatabase());
+        checks.add(checkPool());
+        checks.add(checkJvm());
+        checks.add(checkWarmState());
+        HealthCheck replicas = checkReplicas();
+        if (replicas != null) {
+            checks.add(replicas);
+        }
+        lastChecks = checks;
+        lastSampleAt = System.currentTimeMillis();
+
+        if (!enabled) {
+            return;
+        }
+
+        List<String> reasons = checks.stream()
+                .filter(check -> !check.isHealthy())
+                .map(check -> check.getName() + ": " + check.getReason())
+                .toList();
+
+        if (reasons.isEmpty()) {
+            degradedStreak = 0;
+            healthyStreak++;
+            if (!isReady() && healthyStreak >= recoveryThreshold) {
+                log.info("Dependencies recovered, accepting traffic");
+                AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+            }
+        } else {
+            healthyStreak = 0;
+            degradedStreak++;
+            if (isReady() && degradedStreak >= failureThreshold) {
+                log.warn("Refusing traffic after {} degraded samples: {}", degradedStreak, reasons);
+                AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return availability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC;
+    }
+
+    public List<HealthCheck> getLastChecks() {
+        return lastChecks;
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> checks = new LinkedHashMap<>();
+        for (HealthCheck check : lastChecks) {
+            checks.put(check.getName(), check.toMap());
+        }
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("status", isReady() ? "UP" : "OUT_OF_SERVICE");
+        snapshot.put("sampledAt", lastSampleAt);
+        snapshot.put("checks", checks);
+        return snapshot;
+    }
+
+    private HealthCheck checkDatabase() {
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(dbTimeoutSeconds);
+            statement.execute("SELECT 1");
+            long latencyMs = (System.nanoTime() - start) / 1_000_000;
+
+            HealthCheck check = latencyMs > dbMaxLatencyMs
+                    ? HealthCheck.degraded("database", "round trip " + latencyMs + "ms over " + dbMaxLatencyMs + "ms")
+                    : HealthCheck.healthy("database");
+            return check.with("latencyMs", latencyMs).with("maxLatencyMs", dbMaxLatencyMs);
+        } catch (SQLException e) {
+            return HealthCheck.degraded("database", e.getMessage())
+                    .with("latencyMs", (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private HealthCheck checkPool() {
+        HikariDataSource hikari = unwrapHikari();
+        if (hikari == null || hikari.getHikariPoolMXBean() == null) {
+            return HealthCheck.healthy("connectionPool").with("monitored", false);
+        }
+
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        int active = pool.getActiveConnections();
+        int pending = pool.getThreadsAwaitingConnection();
+        int max = hikari.getMaximumPoolSize();
+        double saturation = max > 0 ? (double) active / max : 0;
+
+        HealthCheck check = saturation >= poolMaxSaturation && pending > poolMaxPending
+                ? HealthCheck.degraded("connectionPool", active + "/" + max + " busy with " + pending + " waiting")
+                : HealthCheck.healthy("connectionPool");
+        return check
+                .with("active", active)
+                .with("idle", pool.getIdleConnections())
+                .with("max", max)
+                .with("pending", pending)
+                .with("saturation", round(saturation));
+    }
+
+    private HikariDataSource unwrapHikari() {
+        try {
+            if (dataSource instanceof HikariDataSource hikari) {
+                return hikari;
+            }
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private HealthCheck checkJvm() {
+        long maxHeap = Runtime.getRuntime().maxMemory();
+        long usedAfterGc = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage afterGc = pool.getCollectionUsage();
+            if (pool.getType() == MemoryType.HEAP && afterGc != null) {
+                usedAfterGc += afterGc.getUsed();
+            }
+        }
+        double heapAfterGc = maxHeap > 0 ? (double) usedAfterGc / maxHeap : 0;
+
+        long gcTimeMs = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcTimeMs += Math.max(0, gc.getCollectionTime());
+        }
+        long now = System.nanoTime();
+        double gcTimeRatio = 0;
+        if (lastGcTimeMs >= 0 && now > lastGcSampleNanos) {
+            gcTimeRatio = (gcTimeMs - lastGcTimeMs) / ((now - lastGcSampleNanos) / 1_000_000.0);
+        }
+        lastGcTimeMs = gcTimeMs;
+        lastGcSampleNanos = now;
+
+        HealthCheck check;
+        if (heapAfterGc > maxHeapAfterGc) {
+            check = HealthCheck.degraded("jvm", "heap after GC at " + Math.round(heapAfterGc * 100) + "%");
+        } else if (gcTimeRatio > maxGcTimeRatio) {
+            check = HealthCheck.degraded("jvm", "GC took " + Math.round(gcTimeRatio * 100) + "% of wall time");
+        } else {
+            check = HealthCheck.healthy("jvm");
+        }
+        return check
+                .with("heapAfterGc", round(heapAfterGc))
+                .with("gcTimeRatio", round(gcTimeRatio))
+                .with("maxHeapBytes", maxHeap);
+    }
+
+    // Informational: reads fall back to the primary when no replica is usable
+    private HealthCheck checkReplicas() {
+        try {
+            if (!dataSource.isWrapperFor(ReplicaRoutingDataSource.class)) {
+                return null;
+            }
+            return HealthCheck.healthy("replicas")
+                    .with("replicas", dataSource.unwrap(ReplicaRoutingDataSource.class).getReplicaStatus());
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    // Informational: a cold cache or index only costs latency on first access, so it never drains traffic
+    private HealthCheck checkWarmState() {
+        long cachedEntries = 0;
+        for (Object stats : entityCache.getStatistics().values()) {
+            if (stats instanceof Map<?, ?> entry && entry.get("size") instanceof Number size) {
+                cachedEntries += size.longValue();
+            }
+        }
+        int indexedUsers = jobSearchIndex.getIndexedUsers();
+
+        return HealthCheck.healthy("warmState")
+                .with("warm", cachedEntries > 0 || indexedUsers > 0)
+                .with("cachedEntries", cachedEntries)
+                .with("indexedUsers", indexedUsers)
+                .with("indexedJobs", jobSearchIndex.getIndexedJobs());
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.JobTracker.search;
+
+import com.example.JobTracker.DTO.JobResponse;
+import com.example.JobTracker.Mapper.JobMapper;
+import com.example.JobTracker.Model.Job;
+import com.example.JobTracker.Repository.JobRepository;
+import com.example.JobTracker.events.JobChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Per-user in-memory inverted index over company, role and source.
+// A user's index is loaded on first search and then kept current by committed JobService writes.
+@Component
+public class JobSearchIndex {
+
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private JobMapper jobMapper;
+
+    @Value("${jobs.search.max-users:1000}")
+    private int maxUsers;
+
+    // Rebuild from the database after this long, to pick up writes made on other nodes
+    @Value("${jobs.search.ttl:10m}")
+    private Duration ttl;
+
+    private final Map<Long, UserJobIndex> indexes = new ConcurrentHashMap<>();
+    // Snapshots being read from the database, one per user; concurrent searches wait for it
+    private final Map<Long, Load> loads = new ConcurrentHashMap<>();
+
+    public List<JobResponse> search(Long userId, String query, String sort) {
+        return indexFor(userId).search(Tokenizer.tokenize(query), sort);
+    }
+
+    // After commit, so a load that starts before the write is visible is always marked, and
+    // rolled-back writes never reach the index
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        switch (event.type()) {
+            case JobChangedEvent.ADDED, JobChangedEvent.UPDATED -> onJobSaved(event.userId(), event.job());
+            case JobChangedEvent.DELETED -> onJobDeleted(event.userId(), event.jobId());
+            default -> { }
+        }
+    }
+
+    private void onJobSaved(Long userId, JobResponse doc) {
+        markWritten(userId);
+        indexes.computeIfPresent(userId, (id, index) -> {
+            index.put(doc);
+            return index;
+        });
+    }
+
+    private void onJobDeleted(Long userId, Long jobId) {
+        markWritten(userId);
+        indexes.computeIfPresent(userId, (id, index) -> {
+            index.remove(jobId);
+            return index;
+        });
+    }
+
+    public void invalidate(Long userId) {
+        markWritten(userId);
+        indexes.remove(userId);
+    }
+
+    public void clear() {
+        indexes.clear();
+    }
+
+    public int getIndexedUsers() {
+        return indexes.size();
+    }
+
+    public long getIndexedJobs() {
+        return indexes.values().stream().mapToLong(UserJobIndex::size).sum();
+    }
+
+    private UserJobIndex indexFor(Long userId) {
+        UserJobIndex index = indexes.get(userId);
+        if (index != null && !index.isStale(ttl)) {
+            index.touch();
+            return index;
+        }
+        if (index == null && indexes.size() >= maxUsers) {
+            evictLeastRecentlyUsed();
+        }
+
+        Load mine = new Load();
+        Load running = loads.putIfAbsent(userId, mine);
+        if (running != null) {
+            return running.await();
+        }
+        try {
+            // The query runs outside any map lock, so other users' lookups and writes never wait on it
+            UserJobIndex fresh = new UserJobIndex();
+            for (Job job : jobRepository.findByUserId(userId)) {
+                fresh.put(jobMapper.toResponse(job));
+            }
+            // A write marked during the load may be missing from the snapshot: answer this search from
+            // it but do not publish it. Writers mark before they update, so none slip in between.
+            indexes.compute(userId, (id, current) -> {
+                if (current != null && current != index) {
+                    return current;
+                }
+                return mine.written ? current : fresh;
+            });
+            mine.result.complete(fresh);
+            return fresh;
+        } catch (RuntimeException e) {
+            mine.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(userId, mine);
+        }
+    }
+
+    private void markWritten(Long userId) {
+        Load load = loads.get(userId);
+        if (load != null) {
+            load.written = true;
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        indexes.entrySet().stream()
+                .min(Comparator.comparingLong(e -> e.getValue().getLastAccess()))
+                .ifPresent(e -> indexes.remove(e.getKey(), e.getValue()));
+    }
+
+    private static final class Load {
+        private final CompletableFuture<UserJobIndex> result = new CompletableFuture<>();
+        private volatile boolean written;
+
+        private UserJobIndex await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.JobTracker.search;
+
+import com.example.JobTracker.DTO.JobResponse;
+import com.example.JobTracker.Service.JobService;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+// Inverted index for one user's jobs. Access is synchronized; contention is per user only.
+class UserJobIndex {
+
+    private static final int COMPANY_WEIGHT = 3;
+    private static final int ROLE_WEIGHT = 2;
+    private static final int SOURCE_WEIGHT = 1;
+
+    private static final double EXACT_MATCH = 1.0;
+    private static final double PREFIX_MATCH = 0.6;
+    private static final double FUZZY_MATCH = 0.3;
+
+    private final Map<Long, Doc> docs = new HashMap<>();
+    // token -> (job id -> best field weight of that token in the job)
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    // trigram -> tokens containing it, for typo-tolerant lookups
+    private final Map<String, Set<String>> grams = new HashMap<>();
+
+    private final long builtAt = System.nanoTime();
+    private volatile long lastAccess = System.nanoTime();
+
+    synchronized void put(JobResponse job) {
+        remove(job.getId());
+
+        Map<String, Integer> tokens = new HashMap<>();
+        addField(tokens, job.getCompany(), COMPANY_WEIGHT);
+        addField(tokens, job.getRole(), ROLE_WEIGHT);
+        addField(tokens, job.getSource(), SOURCE_WEIGHT);
+
+        docs.put(job.getId(), new Doc(job, tokens));
+        for (Map.Entry<String, Integer> token : tokens.entrySet()) {
+            Map<Long, Integer> posting = postings.get(token.getKey());
+            if (posting == null) {
+                posting = new HashMap<>();
+                postings.put(token.getKey(), posting);
+                for (String gram : Tokenizer.trigrams(token.getKey())) {
+                    grams.computeIfAbsent(gram, g -> new HashSet<>()).add(token.getKey());
+                }
+            }
+            posting.put(job.getId(), token.getValue());
+        }
+    }
+
+    synchronized void remove(Long jobId) {
+        Doc doc = docs.remove(jobId);
+        if (doc == null) {
+            return;
+        }
+        for (String token : doc.tokens.keySet()) {
+            Map<Long, Integer> posting = postings.get(token);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(jobId);
+            if (posting.isEmpty()) {
+                postings.remove(token);
+                for (String gram : Tokenizer.trigrams(token)) {
+                    Set<String> tokens = grams.get(gram);
+                    if (tokens != null) {
+                        tokens.remove(token);
+                        if (tokens.isEmpty()) {
+                            grams.remove(gram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // Every term must match (exactly, as a prefix, or within the edit budget); better matches in heavier fields rank first
+    synchronized List<JobResponse> search(List<String> terms, String sort) {
+        touch();
+
+        Map<Long, Double> scores = null;
+        for (String term : terms) {
+            Map<Long, Double> termScores = scoreTerm(term);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                Map<Long, Double> merged = new HashMap<>();
+                for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                    Double score = termScores.get(entry.getKey());
+                    if (score != null) {
+                        merged.put(entry.getKey(), entry.getValue() + score);
+                    }
+                }
+                scores = merged;
+            }
+            if (scores.isEmpty()) {
+                return new ArrayList<>();
+            }
+        }
+
+        // No terms: list everything
+        if (scores == null) {
+            scores = new HashMap<>();
+            for (Long id : docs.keySet()) {
+                scores.put(id, 0.0);
+            }
+        }
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(comparator(sort));
+
+        List<JobResponse> results = new ArrayList<>(ranked.size());
+        for (Map.Entry<Long, Double> entry : ranked) {
+            results.add(docs.get(entry.getKey()).job);
+        }
+        return results;
+    }
+
+    synchronized int size() {
+        return docs.size();
+    }
+
+    boolean isStale(Duration ttl) {
+        return System.nanoTime() - builtAt > ttl.toNanos();
+    }
+
+    void touch() {
+        lastAccess = System.nanoTime();
+    }
+
+    long getLastAccess() {
+        return lastAccess;
+    }
+
+    private Map<Long, Double> scoreTerm(String term) {
+        Map<Long, Double> termScores = new HashMap<>();
+
+        for (Map.Entry<String, Map<Long, Integer>> entry
+                : postings.subMap(term, true, term + Character.MAX_VALUE, true).entrySet()) {
+            double match = entry.getKey().equals(term) ? EXACT_MATCH : PREFIX_MATCH;
+            accumulate(termScores, entry.getValue(), match);
+        }
+
+        int maxEdits = term.length() >= 8 ? 2 : term.length() >= 4 ? 1 : 0;
+        if (maxEdits > 0) {
+            Set<String> candidates = new HashSet<>();
+            for (String gram : Tokenizer.trigrams(term)) {
+                Set<String> tokens = grams.get(gram);
+                if (tokens != null) {
+                    candidates.addAll(tokens);
+                }
+            }
+            for (String candidate : candidates) {
+                if (!candidate.startsWith(term) && Tokenizer.withinEdits(term, candidate, maxEdits)) {
+                    accumulate(termScores, postings.get(candidate), FUZZY_MATCH);
+                }
+            }
+        }
+        return termScores;
+    }
+
+    private void accumulate(Map<Long, Double> termScores, Map<Long, Integer> posting, double match) {
+        for (Map.Entry<Long, Integer> hit : posting.entrySet()) {
+            termScores.merge(hit.getKey(), match * hit.getValue(), Math::max);
+        }
+    }
+
+    private static void addField(Map<String, Integer> tokens, String value, int weight) {
+        for (String token : Tokenizer.tokenize(value)) {
+            tokens.merge(token, weight, Math::max);
+        }
+    }
+
+    private Comparator<Map.Entry<Long, Double>> comparator(String sort) {
+        Comparator<Map.Entry<Long, Double>> byDate = Comparator
+                .comparing((Map.Entry<Long, Double> e) -> docs.get(e.getKey()).job.getAppliedDate(),
+                        Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()))
+                .thenComparing(Map.Entry::getKey);
+
+        if (JobService.SORT_OLDEST.equals(sort)) {
+            return byDate;
+        }
+        if (JobService.SORT_NEWEST.equals(sort)) {
+            return byDate.reversed();
+        }
+        return Comparator.comparing((Map.Entry<Long, Double> e) -> e.getValue())
+                .reversed()
+                .thenComparing(byDate.reversed());
+    }
+
+    private static final class Doc {
+        private final JobResponse job;
+        private final Map<String, Integer> tokens;
+
+        private Doc(JobResponse job, Map<String, Integer> tokens) {
+            this.job = job;
+            this.tokens = tokens;
+        }
+    }
+}
@@ -1,12 +1,19 @@
 package com.example.JobTracker.security;
 
+import com.example.JobTracker.config.MetricsConfig;
+import com.example.JobTracker.util.JwtClaims;
 import com.example.JobTracker.util.JwtUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -15,11 +22,26 @@ import java.util.HashMap;
 import java.util.Map;
 
 @Component
+@Order(JwtAuthenticationFilter.ORDER)
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // After CORS (see CorsConfig), before RateLimitFilter
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 10;
+
+    // EventSource cannot send headers, so the job stream also takes a stream token as ?access_token=
+    // (minted by POST /api/jobs/stream-token). Login tokens are never accepted in the URL.
+    private static final String STREAM_PATH = "/api/jobs/stream";
+    private static final String STREAM_TOKEN_PARAM = "access_token";
+
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private JwtClaimsCache claimsCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
@@ -42,24 +64,47 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String authorizationHeader = request.getHeader("Authorization");
-
-        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+        boolean fromQuery = false;
+        String jwt;
+
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
+            jwt = authorizationHeader.substring(7);
+        } else if (STREAM_PATH.equals(path) && request.getParameter(STREAM_TOKEN_PARAM) != null) {
+            jwt = request.getParameter(STREAM_TOKEN_PARAM);
+            fromQuery = true;
+        } else {
+            recordOutcome("missing");
             sendUnauthorizedError(response, "Missing or invalid authorization header");
             return;
         }
 
-        String jwt = authorizationHeader.substring(7);
-
         try {
-            if (!jwtUtil.validateToken(jwt)) {
-                sendUnauthorizedError(response, "Invalid or expired token");
+            // Parse and verify once, then serve repeat requests from the cache
+            JwtClaims claims = claimsCache.get(jwt);
+            if (claims == null) {
+                try {
+                    claims = claimsCache.put(jwt, jwtUtil.parseOnce(jwt));
+                } catch (ExpiredJwtException e) {
+                    recordOutcome("expired");
+                    sendUnauthorizedError(response, "Invalid or expired token");
+                    return;
+                } catch (JwtException | IllegalArgumentException e) {
+                    recordOutcome("invalid");
+                    sendUnauthorizedError(response, "Invalid or expired token");
+                    return;
+                }
+            }
+
+            // Stream tokens open the stream and nothing else; the URL only carries stream tokens
+            if (claims.isStreamToken() ? !STREAM_PATH.equals(path) : fromQuery) {
+                recordOutcome("invalid");
+                sendUnauthorizedError(response, "Token not valid for this endpoint");
                 return;
             }
 
-            // Extract claims
-            String email = jwtUtil.extractEmail(jwt);
-            Long userId = jwtUtil.extractUserId(jwt);
-            String role = jwtUtil.extractRole(jwt);
+            String email = claims.email();
+            Long userId = claims.userId();
+            String role = claims.role();
 
             // Attach to request
             request.setAttribute("userId", userId);
@@ -69,25 +114,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             // Admin check
             if (path.startsWith("/api/admin") && !"ADMIN".equals(role)) {
+                recordOutcome("forbidden");
                 sendForbiddenError(response, "Admin access required");
                 return;
             }
 
         } catch (Exception e) {
+            recordOutcome("invalid");
             sendUnauthorizedError(response, "Token validation failed");
             return;
         }
 
+        recordOutcome("valid");
         filterChain.doFilter(request, response);
     }
 
+    private void recordOutcome(String outcome) {
+        meterRegistry.counter(MetricsConfig.AUTH_COUNTER, "outcome", outcome).increment();
+    }
+
     private boolean isPublicEndpoint(String path) {
         return path.equals("/api/users/login")
                 || path.equals("/api/users/register")
                 || path.equals("/api/admin/login")
                 || path.startsWith("/api/users/health")
                 || path.startsWith("/api/jobs/health")
-                || path.startsWith("/api/admin/health");
+                || path.startsWith("/api/admin/health")
+                || path.equals("/livez")
+                || path.equals("/readyz");
     }
 
     private void sendUnauthorizedError(HttpServletResponse response, String message) throws IOException {
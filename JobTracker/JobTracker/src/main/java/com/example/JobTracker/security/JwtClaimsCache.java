@@ -0,0 +1,124 @@
+package com.example.JobTracker.security;
+
+import com.example.JobTracker.util.JwtClaims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Bounded cache of already-verified tokens so repeat requests skip the HS256 parse
+@Component
+public class JwtClaimsCache {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${jwt.cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<String, JwtClaims> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    // Hit ratio = hits / (hits + misses) of jobtracker.jwt.cache
+    @PostConstruct
+    void registerMetrics() {
+        FunctionCounter.builder("jobtracker.jwt.cache", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("jobtracker.jwt.cache", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("jobtracker.jwt.cache.evictions", evictions, AtomicLong::get)
+                .register(meterRegistry);
+        Gauge.builder("jobtracker.jwt.cache.size", entries, Map::size).register(meterRegistry);
+    }
+
+    public JwtClaims get(String token) {
+        String key = hash(token);
+        JwtClaims entry = entries.get(key);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (entry.isExpired(Instant.now())) {
+            entries.remove(key, entry);
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry;
+    }
+
+    public JwtClaims put(String token, JwtClaims claims) {
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(hash(token), claims);
+        return claims;
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // Drop expired tokens first; if that is not enough, shed arbitrary entries down to 90% capacity
+    private void evict() {
+        Instant now = Instant.now();
+        entries.entrySet().removeIf(e -> {
+            boolean expired = e.getValue().isExpired(now);
+            if (expired) {
+                evictions.incrementAndGet();
+            }
+            return expired;
+        });
+
+        int target = (int) (maxSize * 0.9);
+        Iterator<String> keys = entries.keySet().iterator();
+        while (entries.size() > target && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.JobTracker.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// In-process buckets: one AtomicLong per key updated with compare-and-set, so concurrent requests
+// for the same client never block each other. Limits apply per instance.
+@Component
+public class LocalRateLimiter implements RateLimiter {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("jobtracker.ratelimit.buckets", buckets, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    public Decision tryAcquire(String key, RateLimitRule rule) {
+        AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(System.nanoTime()));
+        long interval = rule.intervalNanos();
+        long tolerance = rule.toleranceNanos();
+        while (true) {
+            long now = System.nanoTime();
+            long tat = bucket.get();
+            long next = Math.max(tat, now) + interval;
+            long allowAt = next - tolerance;
+            if (allowAt > now) {
+                return Decision.rejected((allowAt - now + 999_999) / 1_000_000);
+            }
+            if (bucket.compareAndSet(tat, next)) {
+                return Decision.ALLOWED;
+            }
+        }
+    }
+
+    // A bucket whose arrival time has passed is full again and equivalent to a missing one.
+    // A request racing the removal can lose its token, which only errs towards admitting.
+    @Scheduled(fixedDelayString = "${rate-limit.purge-interval:PT1M}")
+    public void purgeIdle() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.get() - now < 0);
+    }
+}
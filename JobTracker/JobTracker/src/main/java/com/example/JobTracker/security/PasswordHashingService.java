@@ -0,0 +1,284 @@
+package com.example.JobTracker.security;
+
+import com.example.JobTracker.CustomException.ServiceBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// Hashes and verifies passwords on a small bounded pool so a login storm queues here instead of
+// eating every request thread. Stored values are "{id}hash": {bcrypt}, {argon2} and {pbkdf2:<iterations>};
+// bcrypt and argon2 carry their cost inside the hash. Values without a prefix are pre-hashing plain
+// text and are accepted (then rehashed) while security.password.allow-legacy-plaintext is on.
+@Service
+public class PasswordHashingService {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+    public static final String PBKDF2 = "pbkdf2";
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    // Calibration never goes below these
+    private static final int MIN_BCRYPT_STRENGTH = 10;
+    private static final int MAX_BCRYPT_STRENGTH = 16;
+    private static final int MIN_ARGON2_ITERATIONS = 2;
+    private static final int MAX_ARGON2_ITERATIONS = 10;
+    private static final int MIN_PBKDF2_ITERATIONS = 310_000;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${security.password.algorithm:bcrypt}")
+    private String algorithm;
+
+    // Pick the cost so one hash takes about this long on this machine
+    @Value("${security.password.calibrate:true}")
+    private boolean calibrate;
+
+    @Value("${security.password.target-ms:250}")
+    private long targetMs;
+
+    // Used as-is when calibration is off
+    @Value("${security.password.bcrypt.strength:12}")
+    private int bcryptStrength;
+
+    @Value("${security.password.argon2.memory-kib:19456}")
+    private int argon2MemoryKib;
+
+    @Value("${security.password.argon2.iterations:2}")
+    private int argon2Iterations;
+
+    @Value("${security.password.pbkdf2.iterations:600000}")
+    private int pbkdf2Iterations;
+
+    // 0 = one thread per core
+    @Value("${security.password.threads:0}")
+    private int threads;
+
+    @Value("${security.password.queue-size:200}")
+    private int queueSize;
+
+    @Value("${security.password.timeout-ms:5000}")
+    private long timeoutMs;
+
+    @Value("${security.password.allow-legacy-plaintext:true}")
+    private boolean allowLegacyPlaintext;
+
+    private ThreadPoolExecutor executor;
+    private PasswordEncoder currentEncoder;
+    private String currentId;
+
+    private final BCryptPasswordEncoder bcryptVerifier = new BCryptPasswordEncoder();
+    private final Argon2PasswordEncoder argon2Verifier = Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+    private final Map<Integer, Pbkdf2PasswordEncoder> pbkdf2Verifiers = new ConcurrentHashMap<>();
+
+    public record Verification(boolean matches, boolean needsRehash) {
+    }
+
+    @PostConstruct
+    void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                task -> {
+                    Thread thread = new Thread(task, "password-hash-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password.hashing");
+
+        String id = algorithm.toLowerCase(Locale.ROOT);
+        switch (id) {
+            case BCRYPT -> {
+                int strength = calibrate ? calibrateBcrypt() : bcryptStrength;
+                currentEncoder = new BCryptPasswordEncoder(strength);
+                currentId = BCRYPT;
+                log.info("Password hashing: bcrypt strength {}", strength);
+            }
+            case ARGON2 -> {
+                int iterations = calibrate ? calibrateArgon2() : argon2Iterations;
+                currentEncoder = argon2(iterations);
+                currentId = ARGON2;
+                log.info("Password hashing: argon2id m={}KiB t={}", argon2MemoryKib, iterations);
+            }
+            case PBKDF2 -> {
+                int iterations = calibrate ? calibratePbkdf2() : pbkdf2Iterations;
+                currentEncoder = pbkdf2(iterations);
+                currentId = PBKDF2 + ":" + iterations;
+                log.info("Password hashing: PBKDF2-HMAC-SHA256 {} iterations", iterations);
+            }
+            default -> throw new IllegalStateException("Unknown security.password.algorithm: " + algorithm);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    public String hash(String rawPassword) {
+        return run(() -> encode(rawPassword));
+    }
+
+    public Verification verify(String rawPassword, String stored) {
+        return run(() -> match(rawPassword, stored));
+    }
+
+    // Best effort: hashes off the caller's path and hands the result to store; dropped when the pool is full
+    public void rehashInBackground(String rawPassword, Consumer<String> store) {
+        try {
+            executor.execute(() -> {
+                try {
+                    store.accept(encode(rawPassword));
+                } catch (RuntimeException e) {
+                    log.warn("Password rehash failed: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Password rehash skipped, hashing pool is full");
+        }
+    }
+
+    private String encode(String rawPassword) {
+        return "{" + currentId + "}" + currentEncoder.encode(rawPassword);
+    }
+
+    private Verification match(String rawPassword, String stored) {
+        if (rawPassword == null || stored == null) {
+            return new Verification(false, false);
+        }
+
+        int end = stored.startsWith("{") ? stored.indexOf('}') : -1;
+        if (end < 0) {
+            if (!allowLegacyPlaintext) {
+                return new Verification(false, false);
+            }
+            boolean matches = MessageDigest.isEqual(
+                    rawPassword.getBytes(StandardCharsets.UTF_8), stored.getBytes(StandardCharsets.UTF_8));
+            return new Verification(matches, matches);
+        }
+
+        String id = stored.substring(1, end);
+        String hash = stored.substring(end + 1);
+        boolean matches;
+        if (BCRYPT.equals(id)) {
+            matches = bcryptVerifier.matches(rawPassword, hash);
+        } else if (ARGON2.equals(id)) {
+            matches = argon2Verifier.matches(rawPassword, hash);
+        } else if (id.startsWith(PBKDF2 + ":")) {
+            int iterations = Integer.parseInt(id.substring(PBKDF2.length() + 1));
+            matches = pbkdf2Verifiers.computeIfAbsent(iterations, this::pbkdf2).matches(rawPassword, hash);
+        } else {
+            return new Verification(false, false);
+        }
+        return new Verification(matches, matches && isWeaker(id, hash));
+    }
+
+    // Only upgrade: instances that calibrated a little lower must not keep rewriting each other's hashes
+    private boolean isWeaker(String id, String hash) {
+        if (!currentId.equals(id) && !(currentId.startsWith(PBKDF2) && id.startsWith(PBKDF2))) {
+            return true;
+        }
+        if (currentId.startsWith(PBKDF2)) {
+            return Integer.parseInt(id.substring(PBKDF2.length() + 1)) < Integer.parseInt(currentId.substring(PBKDF2.length() + 1));
+        }
+        return currentEncoder.upgradeEncoding(hash);
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("password.hashing.rejected").increment();
+            throw new ServiceBusyException("Too many concurrent sign-ins, please retry");
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceBusyException("Too many concurrent sign-ins, please retry");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // ---- Calibration: time one hash at a known cost and scale to the target ----
+
+    private int calibrateBcrypt() {
+        double ms = time(new BCryptPasswordEncoder(MIN_BCRYPT_STRENGTH));
+        // Each strength step doubles the work
+        int extra = (int) Math.floor(Math.log(targetMs / Math.max(ms, 0.01)) / Math.log(2));
+        return Math.max(MIN_BCRYPT_STRENGTH, Math.min(MAX_BCRYPT_STRENGTH, MIN_BCRYPT_STRENGTH + extra));
+    }
+
+    private int calibrateArgon2() {
+        double ms = time(argon2(MIN_ARGON2_ITERATIONS));
+        int iterations = (int) Math.floor(MIN_ARGON2_ITERATIONS * targetMs / Math.max(ms, 0.01));
+        return Math.max(MIN_ARGON2_ITERATIONS, Math.min(MAX_ARGON2_ITERATIONS, iterations));
+    }
+
+    private int calibratePbkdf2() {
+        int probe = 100_000;
+        double ms = time(pbkdf2(probe));
+        int iterations = (int) (probe * targetMs / Math.max(ms, 0.01));
+        // Round so calibrated instances land on the same value more often
+        iterations = (iterations / 10_000) * 10_000;
+        return Math.max(MIN_PBKDF2_ITERATIONS, iterations);
+    }
+
+    // Best of three after a warm-up run
+    private double time(PasswordEncoder encoder) {
+        encoder.encode("calibration-warmup");
+        double best = Double.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration-" + i);
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return best;
+    }
+
+    private Argon2PasswordEncoder argon2(int iterations) {
+        return new Argon2PasswordEncoder(16, 32, 1, argon2MemoryKib, iterations);
+    }
+
+    private Pbkdf2PasswordEncoder pbkdf2(int iterations) {
+        return new Pbkdf2PasswordEncoder("", 16, iterations,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.JobTracker.security;
+
+import com.example.JobTracker.config.MetricsConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Runs right after JwtAuthenticationFilter so authenticated requests are limited per userId and
+// public ones (login, register) per client IP. Each request is charged to the first configured
+// route it matches (rate-limit.routes, in order) and answered 429 with Retry-After when over.
+@Component
+@Order(JwtAuthenticationFilter.ORDER + 1)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private boolean enabled;
+    private final List<RateLimitRule> rules = new ArrayList<>();
+    private final List<PathPattern> excluded = new ArrayList<>();
+
+    @PostConstruct
+    void loadRules() {
+        enabled = environment.getProperty("rate-limit.enabled", Boolean.class, true);
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+
+        for (String path : environment.getProperty("rate-limit.exclude", String[].class, new String[0])) {
+            excluded.add(parser.parse(path.trim()));
+        }
+
+        for (String name : environment.getProperty("rate-limit.routes", String[].class, new String[0])) {
+            String prefix = "rate-limit.route." + name.trim() + ".";
+            List<PathPattern> paths = new ArrayList<>();
+            for (String path : environment.getRequiredProperty(prefix + "paths", String[].class)) {
+                paths.add(parser.parse(path.trim()));
+            }
+            int capacity = environment.getProperty(prefix + "capacity", Integer.class, 60);
+            double refillPerSecond = environment.getProperty(prefix + "refill-per-second", Double.class, 1.0);
+            rules.add(new RateLimitRule(name.trim(), paths, capacity, refillPerSecond));
+        }
+        log.info("Rate limiting {} with routes {}", enabled ? "on" : "off",
+                rules.stream().map(RateLimitRule::name).toList());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || "OPTIONS".equalsIgnoreCase(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        RateLimitRule rule = match(path);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(rule.name() + ":" + clientKey(request), rule);
+        if (!decision.allowed()) {
+            meterRegistry.counter(MetricsConfig.RATE_LIMIT_COUNTER, "route", rule.name(), "outcome", "rejected").increment();
+            sendTooManyRequests(response, decision.retryAfterMillis());
+            return;
+        }
+
+        meterRegistry.counter(MetricsConfig.RATE_LIMIT_COUNTER, "route", rule.name(), "outcome", "allowed").increment();
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimitRule match(PathContainer path) {
+        for (PathPattern pattern : excluded) {
+            if (pattern.matches(path)) {
+                return null;
+            }
+        }
+        for (RateLimitRule rule : rules) {
+            if (rule.matches(path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    // getRemoteAddr honours X-Forwarded-For only when server.forward-headers-strategy is set,
+    // so clients cannot pick their own bucket by sending the header
+    private String clientKey(HttpServletRequest request) {
+        Object userId = request.getAttribute("userId");
+        return userId != null ? "user:" + userId : "ip:" + request.getRemoteAddr();
+    }
+
+    private void sendTooManyRequests(HttpServletResponse response, long retryAfterMillis) throws IOException {
+        long retryAfterSeconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+        response.setStatus(429);
+        response.setContentType("application/json");
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+
+        Map<String, Object> error = new HashMap<>();
+        error.put("success", false);
+        error.put("message", "Too many requests, please retry later");
+        error.put("status", 429);
+        error.put("retryAfterSeconds", retryAfterSeconds);
+        error.put("timestamp", System.currentTimeMillis());
+
+        response.getWriter().write(MAPPER.writeValueAsString(error));
+    }
+}
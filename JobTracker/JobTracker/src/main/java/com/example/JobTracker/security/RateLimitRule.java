@@ -0,0 +1,29 @@
+package com.example.JobTracker.security;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+
+import java.util.List;
+
+// capacity is the burst a client may send at once; refillPerSecond the sustained rate after it.
+// Buckets are kept as a theoretical arrival time (GCRA), so a request costs intervalNanos and is
+// admitted while that time stays within toleranceNanos (capacity * interval) of now.
+public record RateLimitRule(String name, List<PathPattern> paths, int capacity, double refillPerSecond) {
+
+    public boolean matches(PathContainer path) {
+        for (PathPattern pattern : paths) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long intervalNanos() {
+        return (long) (1_000_000_000L / refillPerSecond);
+    }
+
+    public long toleranceNanos() {
+        return intervalNanos() * capacity;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.JobTracker.security;
+
+// Token-bucket admission check. Implementations must be safe to call from any request thread.
+public interface RateLimiter {
+
+    Decision tryAcquire(String key, RateLimitRule rule);
+
+    record Decision(boolean allowed, long retryAfterMillis) {
+
+        static final Decision ALLOWED = new Decision(true, 0);
+
+        static Decision rejected(long retryAfterMillis) {
+            return new Decision(false, Math.max(1, retryAfterMillis));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.JobTracker.security;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Shared buckets for multi-instance deployments: the same GCRA step as LocalRateLimiter, run as one
+// Lua script so the read-modify-write is atomic in Redis and uses the Redis clock. When Redis is
+// unreachable or slow the request is judged by the local buckets instead of failing.
+@Component
+@Primary
+@ConditionalOnProperty(name = "rate-limit.backend", havingValue = "redis")
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisRateLimiter.class);
+
+    // KEYS[1] bucket, ARGV[1] interval (us), ARGV[2] tolerance (us); returns 0 or microseconds to wait
+    private static final String SCRIPT = """
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            if tat < now then tat = now end
+            local next = tat + tonumber(ARGV[1])
+            local allowAt = next - tonumber(ARGV[2])
+            if allowAt > now then return allowAt - now end
+            redis.call('SET', KEYS[1], next, 'PX', math.ceil((next - now) / 1000))
+            return 0
+            """;
+
+    @Autowired
+    private LocalRateLimiter fallback;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${rate-limit.redis.uri:redis://localhost:6379}")
+    private String uri;
+
+    @Value("${rate-limit.redis.timeout-ms:50}")
+    private long timeoutMs;
+
+    @Value("${rate-limit.redis.key-prefix:jobtracker:ratelimit:}")
+    private String keyPrefix;
+
+    // Reconnect attempts while Redis is down, so a dead server does not cost every request a timeout
+    @Value("${rate-limit.redis.retry-interval-ms:10000}")
+    private long retryIntervalMs;
+
+    private RedisClient client;
+    private volatile StatefulRedisConnection<String, String> connection;
+    private volatile String scriptSha;
+    private volatile long nextConnectAttempt;
+    private final ReentrantLock connectLock = new ReentrantLock();
+
+    @PostConstruct
+    void init() {
+        client = RedisClient.create(uri);
+        // While Lettuce reconnects, fail commands at once instead of queuing each one until the timeout
+        client.setOptions(ClientOptions.builder()
+                .timeoutOptions(TimeoutOptions.enabled(Duration.ofMillis(timeoutMs)))
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .build());
+        if (connect() != null) {
+            log.info("Rate limiting shared through Redis at {}", uri);
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        if (connection != null) {
+            connection.close();
+        }
+        client.shutdown();
+    }
+
+    @Override
+    public Decision tryAcquire(String key, RateLimitRule rule) {
+        StatefulRedisConnection<String, String> current = connection != null ? connection : connect();
+        if (current == null) {
+            return fallback(key, rule);
+        }
+        String[] keys = {keyPrefix + key};
+        String interval = Long.toString(rule.intervalNanos() / 1000);
+        String tolerance = Long.toString(rule.toleranceNanos() / 1000);
+        try {
+            RedisCommands<String, String> redis = current.sync();
+            Long waitMicros;
+            try {
+                waitMicros = redis.evalsha(scriptSha, ScriptOutputType.INTEGER, keys, interval, tolerance);
+            } catch (RedisNoScriptException e) {
+                // Script cache flushed or Redis restarted
+                scriptSha = redis.scriptLoad(SCRIPT);
+                waitMicros = redis.evalsha(scriptSha, ScriptOutputType.INTEGER, keys, interval, tolerance);
+            }
+            return waitMicros == null || waitMicros <= 0
+                    ? Decision.ALLOWED
+                    : Decision.rejected((waitMicros + 999) / 1000);
+        } catch (RedisException e) {
+            return fallback(key, rule);
+        }
+    }
+
+    // Once connected, Lettuce reconnects by itself; this only covers a server that was down at first use.
+    // Other threads fall back instead of queuing behind the attempt
+    private StatefulRedisConnection<String, String> connect() {
+        if (connection != null || System.currentTimeMillis() < nextConnectAttempt || !connectLock.tryLock()) {
+            return connection;
+        }
+        StatefulRedisConnection<String, String> opened = null;
+        try {
+            if (connection != null) {
+                return connection;
+            }
+            opened = client.connect();
+            scriptSha = opened.sync().scriptLoad(SCRIPT);
+            connection = opened;
+        } catch (RedisException e) {
+            if (opened != null) {
+                opened.close();
+            }
+            nextConnectAttempt = System.currentTimeMillis() + retryIntervalMs;
+            log.warn("Redis at {} unavailable, rate limiting per instance: {}", uri, e.getMessage());
+        } finally {
+            connectLock.unlock();
+        }
+        return connection;
+    }
+
+    private Decision fallback(String key, RateLimitRule rule) {
+        meterRegistry.counter("jobtracker.ratelimit.fallback").increment();
+        return fallback.tryAcquire(key, rule);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.JobTracker.util;
+
+import com.example.JobTracker.CustomException.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+// Opaque page token: base64url("<sort>|<appliedDate>|<id>") of the last row on a page
+public final class JobCursor {
+
+    private final String sort;
+    private final LocalDate appliedDate;
+    private final Long id;
+
+    public JobCursor(String sort, LocalDate appliedDate, Long id) {
+        this.sort = sort;
+        this.appliedDate = appliedDate;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = sort + "|" + appliedDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static JobCursor decode(String token, String expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !parts[0].equals(expectedSort)) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new JobCursor(parts[0], LocalDate.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            ValidationException ex = new ValidationException("Invalid cursor");
+            ex.addError("cursor", "Cursor is malformed or does not match the requested sort");
+            throw ex;
+        }
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public LocalDate getAppliedDate() {
+        return appliedDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.JobTracker.util;
+
+import java.time.Instant;
+
+// Verified claims of one token, produced by a single JwtUtil.parseOnce call.
+// scope is null for login tokens and STREAM_SCOPE for event-stream tokens.
+public record JwtClaims(Long userId, String email, String role, String scope, Instant expiration) {
+
+    public static final String STREAM_SCOPE = "job-stream";
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiration);
+    }
+
+    public boolean isStreamToken() {
+        return STREAM_SCOPE.equals(scope);
+    }
+}
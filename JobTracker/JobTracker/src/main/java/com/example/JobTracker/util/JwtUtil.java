@@ -2,9 +2,11 @@ package com.example.JobTracker.util;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
@@ -19,31 +21,111 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private Long expiration;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    // Stream tokens travel in the URL (EventSource cannot set headers), so they are short-lived
+    // and only accepted on the event stream
+    @Value("${jwt.stream-token.expiration:120000}")
+    private long streamExpiration;
+
+    // kid written into new tokens
+    @Value("${jwt.key-id:default}")
+    private String keyId;
+
+    // Retired keys still accepted for verification, as kid:secret pairs
+    @Value("${jwt.previous-keys:}")
+    private String[] previousKeys;
+
+    private Key signingKey;
+    private Map<String, Key> verificationKeys;
+    private JwtParser parser;
+
+    // Keys and parser are immutable, so build them once and share them across threads
+    @PostConstruct
+    void init() {
+        signingKey = hmacKey(secret);
+
+        Map<String, Key> keys = new HashMap<>();
+        keys.put(keyId, signingKey);
+        for (String entry : previousKeys) {
+            if (entry.trim().isEmpty()) {
+                continue;
+            }
+            int separator = entry.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalStateException("jwt.previous-keys entries must be kid:secret");
+            }
+            keys.putIfAbsent(entry.substring(0, separator).trim(), hmacKey(entry.substring(separator + 1).trim()));
+        }
+        verificationKeys = Map.copyOf(keys);
+
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        // Tokens issued before kid headers were introduced use the current key
+                        String kid = header.getKeyId();
+                        if (kid == null) {
+                            return signingKey;
+                        }
+                        Key key = verificationKeys.get(kid);
+                        if (key == null) {
+                            throw new JwtException("Unknown signing key: " + kid);
+                        }
+                        return key;
+                    }
+                })
+                .build();
+    }
+
+    private static Key hmacKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
     }
 
     public String generateToken(Long userId, String email, String role) {
+        return buildToken(userId, email, role, null, expiration);
+    }
+
+    public String generateStreamToken(Long userId, String email, String role) {
+        return buildToken(userId, email, role, JwtClaims.STREAM_SCOPE, streamExpiration);
+    }
+
+    public long getStreamTokenExpiration() {
+        return streamExpiration;
+    }
+
+    private String buildToken(Long userId, String email, String role, String scope, long validityMs) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", userId);
         claims.put("email", email);
         claims.put("role", role);
+        if (scope != null) {
+            claims.put("scope", scope);
+        }
 
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyId)
                 .setClaims(claims)
                 .setSubject(email)
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setExpiration(new Date(System.currentTimeMillis() + validityMs))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // Verifies signature and expiry; throws JwtException when the token is not acceptable
+    public Claims extractAllClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    // Single verification pass returning everything the request pipeline needs
+    public JwtClaims parseOnce(String token) {
+        Claims claims = extractAllClaims(token);
+        return new JwtClaims(
+                claims.get("userId", Long.class),
+                claims.getSubject(),
+                claims.get("role", String.class),
+                claims.get("scope", String.class),
+                claims.getExpiration().toInstant()
+        );
     }
 
     public String extractEmail(String token) {
@@ -71,15 +153,13 @@ public class JwtUtil {
         return (tokenEmail.equals(email) && !isTokenExpired(token));
     }
 
+    // The parser already rejects expired tokens, so one parse is enough
     public Boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return !isTokenExpired(token);
+            extractAllClaims(token);
+            return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,37 @@
+package com.example.JobTracker.util;
+
+import com.example.JobTracker.CustomException.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Opaque page token for ranked search results: base64url("<sort>|<offset>")
+public final class SearchCursor {
+
+    private SearchCursor() {}
+
+    public static String encode(String sort, int offset) {
+        String raw = sort + "|" + offset;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static int decode(String token, String expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2 || !parts[0].equals(expectedSort)) {
+                throw new IllegalArgumentException(raw);
+            }
+            int offset = Integer.parseInt(parts[1]);
+            if (offset < 0) {
+                throw new IllegalArgumentException(raw);
+            }
+            return offset;
+        } catch (RuntimeException e) {
+            ValidationException ex = new ValidationException("Invalid cursor");
+            ex.addError("cursor", "Cursor is malformed or does not match the requested sort");
+            throw ex;
+        }
+    }
+}
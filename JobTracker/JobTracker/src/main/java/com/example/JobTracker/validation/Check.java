@@ -0,0 +1,7 @@
+package com.example.JobTracker.validation;
+
+// One rule on a field value: returns the error message, or null when the value passes
+@FunctionalInterface
+public interface Check<V> {
+    String test(V value);
+}
@@ -0,0 +1,61 @@
+package com.example.JobTracker.validation;
+
+import java.util.regex.Pattern;
+
+// Reusable checks; patterns are compiled once by the caller, never per request
+public final class Checks {
+
+    private Checks() {
+    }
+
+    public static Check<String> required(String message) {
+        return value -> value == null || value.isBlank() ? message : null;
+    }
+
+    public static Check<Object> notNull(String message) {
+        return value -> value == null ? message : null;
+    }
+
+    // The checks below pass null/blank values; combine with required() when the field is mandatory
+
+    public static Check<String> minLength(int min, String message) {
+        return value -> value != null && value.length() < min ? message : null;
+    }
+
+    public static Check<String> maxLength(int max, String message) {
+        return value -> value != null && value.length() > max ? message : null;
+    }
+
+    public static Check<String> matches(Pattern pattern, String message) {
+        return value -> value != null && !pattern.matcher(value).matches() ? message : null;
+    }
+
+    // Length, digit and uppercase rules in one scan, reported in that order
+    public static Check<String> password(int minLength) {
+        return value -> {
+            if (value == null) {
+                return null;
+            }
+            if (value.length() < minLength) {
+                return "Password must be at least " + minLength + " characters";
+            }
+            boolean digit = false;
+            boolean upper = false;
+            for (int i = 0; i < value.length() && !(digit && upper); i++) {
+                char c = value.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    digit = true;
+                } else if (c >= 'A' && c <= 'Z') {
+                    upper = true;
+                }
+            }
+            if (!digit) {
+                return "Password must include a number";
+            }
+            if (!upper) {
+                return "Password must include an uppercase letter";
+            }
+            return null;
+        };
+    }
+}
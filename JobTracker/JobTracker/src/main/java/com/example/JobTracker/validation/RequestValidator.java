@@ -0,0 +1,57 @@
+package com.example.JobTracker.validation;
+
+import com.example.JobTracker.DTO.JobRequest;
+import com.example.JobTracker.DTO.RegisterRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static com.example.JobTracker.validation.Checks.*;
+
+// Field rules for incoming requests, built once at startup. Only syntax is checked here;
+// lookups such as email uniqueness stay in the services so they cost a single query.
+@Component
+public class RequestValidator {
+
+    private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+
+    private final Validator<RegisterRequest> registration = Validator.<RegisterRequest>builder()
+            .field("email", RegisterRequest::getEmail,
+                    required("Email is required"),
+                    matches(EMAIL, "Invalid email format"))
+            .field("name", RegisterRequest::getName,
+                    required("Name is required"),
+                    minLength(2, "Name must be at least 2 characters"))
+            .field("password", RegisterRequest::getPassword,
+                    required("Password is required"),
+                    password(8))
+            .build();
+
+    private final Validator<JobRequest> job = Validator.<JobRequest>builder()
+            .field("company", JobRequest::getCompany,
+                    required("Company is required"),
+                    maxLength(100, "Company must be at most 100 characters"))
+            .field("role", JobRequest::getRole,
+                    required("Role is required"),
+                    maxLength(100, "Role must be at most 100 characters"))
+            .field("appliedDate", JobRequest::getAppliedDate,
+                    notNull("Applied date is required"))
+            .field("source", JobRequest::getSource,
+                    maxLength(50, "Source must be at most 50 characters"))
+            .field("status", JobRequest::getStatus,
+                    maxLength(50, "Status must be at most 50 characters"))
+            .build();
+
+    public Map<String, String> registrationErrors(RegisterRequest dto) {
+        return registration.collect(dto);
+    }
+
+    public void validateJob(JobRequest dto) {
+        job.validate(dto);
+    }
+
+    public Map<String, String> jobErrors(JobRequest dto) {
+        return job.collect(dto);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.JobTracker.validation;
+
+import com.example.JobTracker.CustomException.ValidationException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// Declarative, immutable rule set for one request type. Checks on a field run in order and stop at
+// the first failure; every field is checked so the caller gets all errors at once.
+public final class Validator<T> {
+
+    private final List<FieldRule<T, ?>> rules;
+
+    private Validator(List<FieldRule<T, ?>> rules) {
+        this.rules = List.copyOf(rules);
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public Map<String, String> collect(T target) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (FieldRule<T, ?> rule : rules) {
+            String error = rule.apply(target);
+            if (error != null) {
+                errors.put(rule.field, error);
+            }
+        }
+        return errors;
+    }
+
+    public void validate(T target) {
+        Map<String, String> errors = collect(target);
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Validation failed", errors);
+        }
+    }
+
+    public static final class Builder<T> {
+        private final List<FieldRule<T, ?>> rules = new ArrayList<>();
+
+        @SafeVarargs
+        public final <V> Builder<T> field(String field, Function<T, V> getter, Check<? super V>... checks) {
+            rules.add(new FieldRule<>(field, getter, List.of(checks)));
+            return this;
+        }
+
+        public Validator<T> build() {
+            return new Validator<>(rules);
+        }
+    }
+
+    private record FieldRule<T, V>(String field, Function<T, V> getter, List<Check<? super V>> checks) {
+
+        String apply(T target) {
+            V value = getter.apply(target);
+            for (Check<? super V> check : checks) {
+                String error = check.test(value);
+                if (error != null) {
+                    return error;
+                }
+            }
+            return null;
+        }
+    }
+}
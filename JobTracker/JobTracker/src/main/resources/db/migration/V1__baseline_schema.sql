@@ -0,0 +1,44 @@
+-- Schema previously created by hibernate ddl-auto=update.
+-- IF NOT EXISTS lets existing databases (baselined at version 0) pass through unchanged.
+
+CREATE TABLE IF NOT EXISTS users (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    name        VARCHAR(100) NOT NULL,
+    password    VARCHAR(100) NOT NULL,
+    email       VARCHAR(100) NOT NULL,
+    role        VARCHAR(20),
+    is_active   BIT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    last_login  DATETIME(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_users_email (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS admins (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    name        VARCHAR(100) NOT NULL,
+    email       VARCHAR(100) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    role        VARCHAR(20),
+    is_active   BIT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    last_login  DATETIME(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_admins_email (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS jobs (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id       BIGINT       NOT NULL,
+    company       VARCHAR(100) NOT NULL,
+    role          VARCHAR(100) NOT NULL,
+    applied_date  DATE         NOT NULL,
+    source        VARCHAR(50),
+    status        VARCHAR(50),
+    deadline      DATE,
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,8 @@
+-- Every JobRepository query filters on user_id and orders by applied_date (keyset pages).
+-- InnoDB appends the primary key to secondary indexes, so these also cover the id tie-breaker.
+
+CREATE INDEX idx_jobs_user_applied ON jobs (user_id, applied_date);
+
+-- Status/source listings and their GROUP BY counts
+CREATE INDEX idx_jobs_user_status_applied ON jobs (user_id, status, applied_date);
+CREATE INDEX idx_jobs_user_source_applied ON jobs (user_id, source, applied_date);
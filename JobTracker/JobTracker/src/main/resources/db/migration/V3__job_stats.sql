@@ -0,0 +1,11 @@
+-- Per-user job counters maintained by JobService writes.
+-- dimension: total | status | source | month ('YYYY-MM'); NULL status/source are stored as ''.
+-- A user's 'total' row marks the counters as materialized; users without one are rebuilt on first read.
+
+CREATE TABLE job_stats (
+    user_id    BIGINT      NOT NULL,
+    dimension  VARCHAR(10) NOT NULL,
+    dim_key    VARCHAR(50) NOT NULL,
+    job_count  BIGINT      NOT NULL,
+    PRIMARY KEY (user_id, dimension, dim_key)
+) ENGINE = InnoDB;
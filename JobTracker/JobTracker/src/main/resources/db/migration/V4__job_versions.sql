@@ -0,0 +1,9 @@
+-- Per-user change counter for the job list and stats endpoints (ETag / Last-Modified).
+-- Bumped in the same transaction as every job write; users without a row are at version 0.
+
+CREATE TABLE job_versions (
+    user_id      BIGINT      NOT NULL,
+    version      BIGINT      NOT NULL,
+    modified_at  DATETIME(3) NOT NULL,
+    PRIMARY KEY (user_id)
+) ENGINE = InnoDB;
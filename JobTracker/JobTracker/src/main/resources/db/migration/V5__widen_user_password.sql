@@ -0,0 +1,4 @@
+-- Prefixed argon2 ({argon2}$argon2id$...) and PBKDF2 ({pbkdf2:<iterations>} + 96 hex) hashes
+-- run past 100 characters; match admins.password.
+
+ALTER TABLE users MODIFY password VARCHAR(255) NOT NULL;
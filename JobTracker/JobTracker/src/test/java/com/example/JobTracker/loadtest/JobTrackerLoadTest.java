@@ -0,0 +1,404 @@
+package com.example.JobTracker.loadtest;
+
+import com.example.JobTracker.security.PasswordHashingService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Boots the application on a random port against MySQL, seeds users and jobs over HTTP,
+ * then drives a weighted read/write mix from concurrent clients and checks the result
+ * against src/test/resources/loadtest-baseline.properties.
+ *
+ * Run with: mvn -Ploadtest test
+ * Tuning: -Dloadtest.users, -Dloadtest.jobs-per-user, -Dloadtest.concurrency, -Dloadtest.duration-seconds.
+ * Compare execution modes by running once with -Dloadtest.virtual-threads=true and once without;
+ * each mode writes its own report.
+ * Point at an existing database with -Dloadtest.datasource.url (plus .username / .password)
+ * instead of starting a container.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "schema.index-check.enabled=false",
+        // Every simulated user shares one client IP, and the point is to find the server's limits
+        "rate-limit.enabled=false"
+})
+class JobTrackerLoadTest {
+
+    private static final String PASSWORD = "LoadTest123";
+    private static final String ADMIN_EMAIL = "loadtest-admin@example.com";
+    private static final String[] COMPANIES = {"Acme", "Globex", "Initech", "Umbrella", "Hooli", "Stark", "Wayne", "Wonka"};
+    private static final String[] ROLES = {"Backend Engineer", "Frontend Developer", "Data Analyst", "SRE", "Product Manager"};
+    private static final String[] SOURCES = {"LinkedIn", "Indeed", "Referral", "Company Site"};
+    private static final String[] STATUSES = {"Applied", "Interview", "Offer", "Rejected"};
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 50);
+    private static final int JOBS_PER_USER = Integer.getInteger("loadtest.jobs-per-user", 200);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 16);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 60);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 10);
+    private static final boolean VIRTUAL_THREADS = Boolean.getBoolean("loadtest.virtual-threads");
+    private static final String MODE = VIRTUAL_THREADS ? "virtual" : "platform";
+
+    private static MySQLContainer mysql;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.threads.virtual.enabled", () -> VIRTUAL_THREADS);
+
+        String url = System.getProperty("loadtest.datasource.url");
+        if (url != null && !url.isEmpty()) {
+            registry.add("spring.datasource.url", () -> url);
+            registry.add("spring.datasource.username", () -> System.getProperty("loadtest.datasource.username", "root"));
+            registry.add("spring.datasource.password", () -> System.getProperty("loadtest.datasource.password", ""));
+            return;
+        }
+
+        mysql = new MySQLContainer(System.getProperty("loadtest.mysql-image", "mysql:8.0"))
+                .withDatabaseName("jobtracker")
+                .withUrlParam("rewriteBatchedStatements", "true");
+        mysql.start();
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    @AfterAll
+    static void stopDatabase() {
+        if (mysql != null) {
+            mysql.stop();
+        }
+    }
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordHashingService passwordHashing;
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final List<Session> sessions = new ArrayList<>();
+    private String adminToken;
+
+    @Test
+    void mixedWorkloadStaysWithinBaseline() throws Exception {
+        seed();
+
+        // Warm-up pass fills caches, the search index and JIT; its numbers are thrown away
+        drive(new LatencyRecorder(), WARMUP_SECONDS);
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        long start = System.nanoTime();
+        drive(recorder, DURATION_SECONDS);
+        double elapsed = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Map<String, LatencyRecorder.Summary> summaries = recorder.summarize(elapsed);
+        printReport(summaries, elapsed);
+        writeReport(summaries, elapsed);
+        assertBaseline(summaries, elapsed);
+    }
+
+    // ---- Seeding ----
+
+    private void seed() throws Exception {
+        jdbcTemplate.update(
+                "INSERT INTO admins (name, email, password, role, is_active, created_at, updated_at) VALUES (?, ?, ?, 'ADMIN', 1, ?, ?)",
+                "Load Test Admin", ADMIN_EMAIL, passwordHashing.hash(PASSWORD), LocalDateTime.now(), LocalDateTime.now());
+        adminToken = login("/api/admin/login", ADMIN_EMAIL);
+
+        for (int i = 0; i < USERS; i++) {
+            String email = "loadtest-user-" + i + "@example.com";
+            ObjectNode body = json.createObjectNode()
+                    .put("name", "Load User " + i)
+                    .put("email", email)
+                    .put("password", PASSWORD);
+            HttpResponse<String> response = send(post("/api/users/register", null, body));
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Registration failed: " + response.body());
+            }
+
+            String token = login("/api/users/login", email);
+            Long userId = json.readTree(response.body()).path("user").path("id").asLong();
+            Session session = new Session(userId, email, token);
+            sessions.add(session);
+
+            // Seed through the bulk endpoint so job_stats and the search index see the same path as production
+            int remaining = JOBS_PER_USER;
+            while (remaining > 0) {
+                int batch = Math.min(remaining, 1000);
+                ArrayNode jobs = json.createArrayNode();
+                for (int j = 0; j < batch; j++) {
+                    jobs.add(randomJob());
+                }
+                HttpResponse<String> imported = send(post("/api/jobs/bulk", token, jobs));
+                if (imported.statusCode() != 201) {
+                    throw new IllegalStateException("Bulk import failed: " + imported.body());
+                }
+                remaining -= batch;
+            }
+
+            HttpResponse<String> page = send(get("/api/jobs/user/" + userId + "?size=50", token));
+            for (JsonNode job : json.readTree(page.body()).path("items")) {
+                session.jobIds.add(job.path("id").asLong());
+            }
+        }
+
+        System.out.printf("Seeded %d users with %d jobs each%n", USERS, JOBS_PER_USER);
+    }
+
+    private String login(String path, String email) throws Exception {
+        ObjectNode body = json.createObjectNode().put("email", email).put("password", PASSWORD);
+        HttpResponse<String> response = send(post(path, null, body));
+        String token = json.readTree(response.body()).path("token").asText(null);
+        if (response.statusCode() != 200 || token == null) {
+            throw new IllegalStateException("Login failed for " + email + ": " + response.body());
+        }
+        return token;
+    }
+
+    // ---- Workload ----
+
+    private void drive(LatencyRecorder recorder, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        // Client workers are virtual so high -Dloadtest.concurrency values stay cheap on the driver side
+        ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            workers.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    Session session = sessions.get(ThreadLocalRandom.current().nextInt(sessions.size()));
+                    runOne(recorder, session);
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+    }
+
+    // Weighted mix, roughly 80% reads / 20% writes
+    private void runOne(LatencyRecorder recorder, Session session) {
+        int roll = ThreadLocalRandom.current().nextInt(100);
+        try {
+            if (roll < 25) {
+                timed(recorder, "GET /api/jobs/user/{id}", get("/api/jobs/user/" + session.userId + "?size=20", session.token));
+            } else if (roll < 40) {
+                String keyword = URLEncoder.encode(pick(COMPANIES).toLowerCase(), StandardCharsets.UTF_8);
+                timed(recorder, "GET /api/jobs/user/{id}/search", get("/api/jobs/user/" + session.userId + "/search?keyword=" + keyword, session.token));
+            } else if (roll < 52) {
+                timed(recorder, "GET /api/jobs/user/{id}/dashboard-stats", get("/api/jobs/user/" + session.userId + "/dashboard-stats", session.token));
+            } else if (roll < 60) {
+                timed(recorder, "GET /api/jobs/user/{id}/stats", get("/api/jobs/user/" + session.userId + "/stats", session.token));
+            } else if (roll < 70) {
+                timed(recorder, "GET /api/jobs/{id}", get("/api/jobs/" + pickJob(session), session.token));
+            } else if (roll < 75) {
+                ObjectNode body = json.createObjectNode().put("email", session.email).put("password", PASSWORD);
+                timed(recorder, "POST /api/users/login", post("/api/users/login", null, body));
+            } else if (roll < 87) {
+                HttpResponse<String> response = timed(recorder, "POST /api/jobs", post("/api/jobs", session.token, randomJob()));
+                if (response != null && response.statusCode() == 201) {
+                    Long jobId = json.readTree(response.body()).path("job").path("id").asLong();
+                    synchronized (session.jobIds) {
+                        session.jobIds.add(jobId);
+                    }
+                }
+            } else if (roll < 97) {
+                timed(recorder, "PUT /api/jobs/{id}", put("/api/jobs/" + pickJob(session), session.token, randomJob()));
+            } else {
+                timed(recorder, "GET /api/admin/statistics", get("/api/admin/statistics", adminToken));
+            }
+        } catch (IOException e) {
+            recorder.record("client-error", 0, false);
+        }
+    }
+
+    private HttpResponse<String> timed(LatencyRecorder recorder, String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            recorder.record(endpoint, System.nanoTime() - start, response.statusCode() < 400);
+            return response;
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private ObjectNode randomJob() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return json.createObjectNode()
+                .put("company", pick(COMPANIES) + " " + random.nextInt(100))
+                .put("role", pick(ROLES))
+                .put("appliedDate", LocalDate.now().minusDays(random.nextInt(365)).toString())
+                .put("source", pick(SOURCES))
+                .put("status", pick(STATUSES));
+    }
+
+    private static String pick(String[] values) {
+        return values[ThreadLocalRandom.current().nextInt(values.length)];
+    }
+
+    private static Long pickJob(Session session) {
+        synchronized (session.jobIds) {
+            return session.jobIds.get(ThreadLocalRandom.current().nextInt(session.jobIds.size()));
+        }
+    }
+
+    // ---- HTTP helpers ----
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, JsonNode body) throws IOException {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json.writeValueAsString(body)))
+                .build();
+    }
+
+    private HttpRequest put(String path, String token, JsonNode body) throws IOException {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(json.writeValueAsString(body)))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    // ---- Reporting ----
+
+    private void printReport(Map<String, LatencyRecorder.Summary> summaries, double elapsed) {
+        System.out.printf("%nLoad test (%s threads): %d users x %d jobs, %d clients, %.1fs%n", MODE, USERS, JOBS_PER_USER, CONCURRENCY, elapsed);
+        System.out.printf("%-42s %9s %8s %10s %10s %9s%n", "endpoint", "requests", "errors", "p50 (ms)", "p99 (ms)", "req/s");
+        summaries.values().forEach(s -> System.out.printf("%-42s %9d %8d %10.2f %10.2f %9.1f%n",
+                s.endpoint(), s.requests(), s.errors(), s.p50Millis(), s.p99Millis(), s.rps()));
+        System.out.printf("%-42s %9d %8s %10s %10s %9.1f%n", "total", totalRequests(summaries), "", "", "", totalRequests(summaries) / elapsed);
+    }
+
+    private void writeReport(Map<String, LatencyRecorder.Summary> summaries, double elapsed) throws IOException {
+        ObjectNode report = json.createObjectNode();
+        report.put("executionMode", MODE);
+        report.put("users", USERS);
+        report.put("jobsPerUser", JOBS_PER_USER);
+        report.put("concurrency", CONCURRENCY);
+        report.put("elapsedSeconds", elapsed);
+        report.put("totalRps", totalRequests(summaries) / elapsed);
+        ArrayNode endpoints = report.putArray("endpoints");
+        summaries.values().forEach(s -> endpoints.addObject()
+                .put("endpoint", s.endpoint())
+                .put("requests", s.requests())
+                .put("errors", s.errors())
+                .put("p50Millis", s.p50Millis())
+                .put("p99Millis", s.p99Millis())
+                .put("rps", s.rps()));
+
+        Path out = Paths.get(System.getProperty("loadtest.report", "target/loadtest-report-" + MODE + ".json"));
+        Files.createDirectories(out.toAbsolutePath().getParent());
+        json.writerWithDefaultPrettyPrinter().writeValue(out.toFile(), report);
+    }
+
+    private void assertBaseline(Map<String, LatencyRecorder.Summary> summaries, double elapsed) throws IOException {
+        Properties baseline = new Properties();
+        try (InputStream in = getClass().getResourceAsStream("/loadtest-baseline.properties")) {
+            if (in != null) {
+                baseline.load(in);
+            }
+        }
+
+        List<String> failures = new ArrayList<>();
+        double maxErrorRate = Double.parseDouble(baseline.getProperty("max-error-rate", "0.01"));
+        double defaultP99 = Double.parseDouble(baseline.getProperty("p99.default", "500"));
+
+        for (LatencyRecorder.Summary s : summaries.values()) {
+            double p99Limit = Double.parseDouble(baseline.getProperty("p99." + s.endpoint(), String.valueOf(defaultP99)));
+            if (s.p99Millis() > p99Limit) {
+                failures.add(String.format("%s p99 %.2fms > %.2fms", s.endpoint(), s.p99Millis(), p99Limit));
+            }
+            if (s.errorRate() > maxErrorRate) {
+                failures.add(String.format("%s error rate %.2f%% > %.2f%%", s.endpoint(), s.errorRate() * 100, maxErrorRate * 100));
+            }
+        }
+
+        double minRps = Double.parseDouble(baseline.getProperty("min-total-rps", "0"));
+        double totalRps = totalRequests(summaries) / elapsed;
+        if (totalRps < minRps) {
+            failures.add(String.format("total throughput %.1f req/s < %.1f req/s", totalRps, minRps));
+        }
+
+        assertTrue(failures.isEmpty(), "Load test exceeded baseline:\n  " + String.join("\n  ", failures));
+    }
+
+    private static long totalRequests(Map<String, LatencyRecorder.Summary> summaries) {
+        return summaries.values().stream().mapToLong(LatencyRecorder.Summary::requests).sum();
+    }
+
+    private static class Session {
+        private final Long userId;
+        private final String email;
+        private final String token;
+        private final List<Long> jobIds = new ArrayList<>();
+
+        Session(Long userId, String email, String token) {
+            this.userId = userId;
+            this.email = email;
+            this.token = token;
+        }
+    }
+}
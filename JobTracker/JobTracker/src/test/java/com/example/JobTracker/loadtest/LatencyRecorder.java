@@ -0,0 +1,73 @@
+package com.example.JobTracker.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Collects per-endpoint latencies from all workers; summarized once the run is over
+class LatencyRecorder {
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long nanos, boolean ok) {
+        Endpoint e = endpoints.computeIfAbsent(endpoint, k -> new Endpoint());
+        e.record(nanos, ok);
+    }
+
+    Map<String, Summary> summarize(double elapsedSeconds) {
+        Map<String, Summary> summaries = new LinkedHashMap<>();
+        endpoints.keySet().stream().sorted().forEach(name ->
+                summaries.put(name, endpoints.get(name).summarize(name, elapsedSeconds)));
+        return summaries;
+    }
+
+    private static class Endpoint {
+        private final List<Long> samples = new ArrayList<>();
+        private final AtomicLong errors = new AtomicLong();
+
+        void record(long nanos, boolean ok) {
+            synchronized (samples) {
+                samples.add(nanos);
+            }
+            if (!ok) {
+                errors.incrementAndGet();
+            }
+        }
+
+        Summary summarize(String name, double elapsedSeconds) {
+            long[] sorted;
+            synchronized (samples) {
+                sorted = samples.stream().mapToLong(Long::longValue).toArray();
+            }
+            Arrays.sort(sorted);
+            return new Summary(
+                    name,
+                    sorted.length,
+                    errors.get(),
+                    percentileMillis(sorted, 0.50),
+                    percentileMillis(sorted, 0.99),
+                    sorted.length / elapsedSeconds
+            );
+        }
+
+        // Nearest-rank percentile
+        private static double percentileMillis(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(rank, sorted.length - 1))] / 1_000_000.0;
+        }
+    }
+
+    record Summary(String endpoint, long requests, long errors, double p50Millis, double p99Millis, double rps) {
+
+        double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.JobTracker.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenizerTest {
+
+	@Test
+	void tokenizeLowercasesAndSplitsOnNonAlphanumerics() {
+		assertEquals(List.of("senior", "c", "developer", "acme", "co", "2024"),
+				Tokenizer.tokenize("Senior C++ Developer @ ACME-Co (2024)"));
+	}
+
+	@Test
+	void tokenizeHandlesNullAndBlank() {
+		assertTrue(Tokenizer.tokenize(null).isEmpty());
+		assertTrue(Tokenizer.tokenize("  -- ").isEmpty());
+	}
+
+	@Test
+	void trigramsArePaddedWithBoundaryMarkers() {
+		assertEquals(List.of("^go", "goo", "oog", "ogl", "gle", "le$"), Tokenizer.trigrams("google"));
+		assertEquals(List.of("^a$"), Tokenizer.trigrams("a"));
+	}
+
+	@Test
+	void withinEditsCountsSubstitutionsInsertionsAndDeletions() {
+		assertTrue(Tokenizer.withinEdits("google", "google", 0));
+		assertTrue(Tokenizer.withinEdits("gogle", "google", 1));
+		assertTrue(Tokenizer.withinEdits("googel", "google", 2));
+		assertTrue(Tokenizer.withinEdits("amazon", "amazin", 1));
+		assertTrue(Tokenizer.withinEdits("stripe", "strip", 1));
+	}
+
+	@Test
+	void withinEditsRejectsPastTheBudget() {
+		// Transposition is two Levenshtein edits
+		assertFalse(Tokenizer.withinEdits("googel", "google", 1));
+		assertFalse(Tokenizer.withinEdits("kitten", "sitting", 2));
+		assertTrue(Tokenizer.withinEdits("kitten", "sitting", 3));
+		// Length difference alone exceeds the budget
+		assertFalse(Tokenizer.withinEdits("net", "netflix", 2));
+		assertFalse(Tokenizer.withinEdits("abc", "xyz", 0));
+	}
+}
@@ -0,0 +1,151 @@
+package com.example.JobTracker.search;
+
+import com.example.JobTracker.DTO.JobResponse;
+import com.example.JobTracker.Service.JobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserJobIndexTest {
+
+	private UserJobIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new UserJobIndex();
+	}
+
+	@Test
+	void exactMatchRanksAbovePrefixMatch() {
+		index.put(job(1L, "Googleplex Labs", "Engineer", "LinkedIn", "2024-01-10"));
+		index.put(job(2L, "Google", "Engineer", "LinkedIn", "2024-01-01"));
+
+		assertEquals(List.of(2L, 1L), ids(search("google")));
+	}
+
+	@Test
+	void prefixMatchesPartialTerms() {
+		index.put(job(1L, "Microsoft", "Engineer", "Referral", "2024-01-01"));
+
+		assertEquals(List.of(1L), ids(search("micro")));
+		assertTrue(search("soft").isEmpty());
+	}
+
+	@Test
+	void companyOutranksRoleOutranksSource() {
+		index.put(job(1L, "Acme", "Data Analyst", "Indeed", "2024-03-01"));
+		index.put(job(2L, "Data Corp", "Engineer", "Indeed", "2024-01-01"));
+		index.put(job(3L, "Acme", "Engineer", "Data Jobs Board", "2024-05-01"));
+
+		assertEquals(List.of(2L, 1L, 3L), ids(search("data")));
+	}
+
+	@Test
+	void fuzzyMatchToleratesTyposAndRanksBelowPrefix() {
+		index.put(job(1L, "Google", "Engineer", "LinkedIn", "2024-01-01"));
+		index.put(job(2L, "Goglet", "Engineer", "LinkedIn", "2024-01-01"));
+
+		// "gogle" is one edit from "google" and a prefix of "goglet"
+		assertEquals(List.of(2L, 1L), ids(search("gogle")));
+	}
+
+	@Test
+	void editBudgetGrowsWithTermLength() {
+		index.put(job(1L, "Spotify", "Engineer", "LinkedIn", "2024-01-01"));
+		index.put(job(2L, "Acme", "Infrastructure", "LinkedIn", "2024-01-01"));
+
+		// Under four characters there is no typo tolerance
+		assertTrue(search("spx").isEmpty());
+		// Four to seven characters allow one edit, not two
+		assertEquals(List.of(1L), ids(search("spotfy")));
+		assertTrue(search("spxtfy").isEmpty());
+		// Eight or more allow two
+		assertEquals(List.of(2L), ids(search("infrastrukture")));
+		assertEquals(List.of(2L), ids(search("imfrastrukture")));
+	}
+
+	@Test
+	void everyTermMustMatch() {
+		index.put(job(1L, "Google", "Backend Engineer", "LinkedIn", "2024-01-01"));
+		index.put(job(2L, "Google", "Designer", "LinkedIn", "2024-01-01"));
+		index.put(job(3L, "Stripe", "Backend Engineer", "LinkedIn", "2024-01-01"));
+
+		assertEquals(List.of(1L), ids(search("google backend")));
+		assertTrue(search("google stripe").isEmpty());
+	}
+
+	@Test
+	void scoresAddUpAcrossTerms() {
+		index.put(job(1L, "Google", "Engineer", "LinkedIn", "2024-01-01"));
+		index.put(job(2L, "Acme", "Google Engineer", "LinkedIn", "2024-06-01"));
+
+		// Company hit (3) + role hit (2) beats role hit (2) + role hit (2)
+		assertEquals(List.of(1L, 2L), ids(search("google engineer")));
+	}
+
+	@Test
+	void relevanceTiesBreakByNewestFirst() {
+		index.put(job(1L, "Acme", "Engineer", "LinkedIn", "2024-01-01"));
+		index.put(job(2L, "Acme", "Engineer", "LinkedIn", "2024-03-01"));
+		index.put(job(3L, "Acme", "Engineer", "LinkedIn", "2024-02-01"));
+
+		assertEquals(List.of(2L, 3L, 1L), ids(search("acme")));
+	}
+
+	@Test
+	void dateSortsIgnoreRelevance() {
+		index.put(job(1L, "Google", "Engineer", "LinkedIn", "2024-02-01"));
+		index.put(job(2L, "Googleplex", "Engineer", "LinkedIn", "2024-01-01"));
+		index.put(job(3L, "Google", "Engineer", "LinkedIn", "2024-03-01"));
+
+		assertEquals(List.of(2L, 1L, 3L), ids(index.search(Tokenizer.tokenize("google"), JobService.SORT_OLDEST)));
+		assertEquals(List.of(3L, 1L, 2L), ids(index.search(Tokenizer.tokenize("google"), JobService.SORT_NEWEST)));
+	}
+
+	@Test
+	void emptyQueryListsEverything() {
+		index.put(job(1L, "Google", "Engineer", "LinkedIn", "2024-01-01"));
+		index.put(job(2L, "Stripe", "Engineer", "LinkedIn", "2024-02-01"));
+
+		assertEquals(List.of(2L, 1L), ids(search("")));
+	}
+
+	@Test
+	void putReplacesAndRemoveDropsPostings() {
+		index.put(job(1L, "Google", "Engineer", "LinkedIn", "2024-01-01"));
+		index.put(job(1L, "Stripe", "Engineer", "LinkedIn", "2024-01-01"));
+
+		assertTrue(search("google").isEmpty());
+		assertEquals(List.of(1L), ids(search("stripe")));
+		assertEquals(1, index.size());
+
+		index.remove(1L);
+		assertTrue(search("stripe").isEmpty());
+		// The token and its trigrams are gone too, so fuzzy lookups find nothing either
+		assertTrue(search("strpe").isEmpty());
+		assertEquals(0, index.size());
+	}
+
+	private List<JobResponse> search(String query) {
+		return index.search(Tokenizer.tokenize(query), JobService.SORT_RELEVANCE);
+	}
+
+	private static List<Long> ids(List<JobResponse> results) {
+		return results.stream().map(JobResponse::getId).toList();
+	}
+
+	private static JobResponse job(Long id, String company, String role, String source, String appliedDate) {
+		JobResponse job = new JobResponse();
+		job.setId(id);
+		job.setCompany(company);
+		job.setRole(role);
+		job.setSource(source);
+		job.setAppliedDate(LocalDate.parse(appliedDate));
+		return job;
+	}
+}
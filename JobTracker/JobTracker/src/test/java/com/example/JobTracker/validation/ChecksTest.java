@@ -0,0 +1,56 @@
+package com.example.JobTracker.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ChecksTest {
+
+	@Test
+	void requiredRejectsNullAndBlank() {
+		Check<String> check = Checks.required("missing");
+		assertEquals("missing", check.test(null));
+		assertEquals("missing", check.test("   "));
+		assertNull(check.test("x"));
+	}
+
+	@Test
+	void notNullOnlyRejectsNull() {
+		Check<Object> check = Checks.notNull("missing");
+		assertEquals("missing", check.test(null));
+		assertNull(check.test(""));
+	}
+
+	@Test
+	void lengthChecksPassNullAndApplyBoundsInclusively() {
+		Check<String> min = Checks.minLength(2, "short");
+		Check<String> max = Checks.maxLength(3, "long");
+		assertNull(min.test(null));
+		assertNull(max.test(null));
+		assertEquals("short", min.test("a"));
+		assertNull(min.test("ab"));
+		assertNull(max.test("abc"));
+		assertEquals("long", max.test("abcd"));
+	}
+
+	@Test
+	void matchesRequiresAFullMatch() {
+		Check<String> check = Checks.matches(Pattern.compile("[a-z]+"), "bad");
+		assertNull(check.test(null));
+		assertNull(check.test("abc"));
+		assertEquals("bad", check.test("abc1"));
+	}
+
+	@Test
+	void passwordReportsLengthThenDigitThenUppercase() {
+		Check<String> check = Checks.password(8);
+		assertNull(check.test(null));
+		assertEquals("Password must be at least 8 characters", check.test("Ab1"));
+		assertEquals("Password must include a number", check.test("Abcdefgh"));
+		assertEquals("Password must include an uppercase letter", check.test("abcdefg1"));
+		assertNull(check.test("Abcdefg1"));
+	}
+}
@@ -0,0 +1,59 @@
+package com.example.JobTracker.validation;
+
+import com.example.JobTracker.CustomException.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidatorTest {
+
+	private final Validator<Form> validator = Validator.<Form>builder()
+			.field("name", Form::name,
+					Checks.required("Name is required"),
+					Checks.minLength(2, "Name must be at least 2 characters"))
+			.field("password", Form::password,
+					Checks.required("Password is required"),
+					Checks.password(8))
+			.build();
+
+	@Test
+	void collectReturnsNoErrorsForAValidTarget() {
+		assertTrue(validator.collect(request("Ann", "Secret123")).isEmpty());
+	}
+
+	@Test
+	void collectStopsAtTheFirstFailingCheckPerField() {
+		Map<String, String> errors = validator.collect(request(null, "short"));
+		assertEquals("Name is required", errors.get("name"));
+		assertEquals("Password must be at least 8 characters", errors.get("password"));
+	}
+
+	@Test
+	void collectReportsEveryFieldInDeclarationOrder() {
+		Map<String, String> errors = validator.collect(request("A", null));
+		assertEquals(List.of("name", "password"), List.copyOf(errors.keySet()));
+		assertEquals("Name must be at least 2 characters", errors.get("name"));
+		assertEquals("Password is required", errors.get("password"));
+	}
+
+	@Test
+	void validateThrowsWithTheCollectedErrors() {
+		ValidationException e = assertThrows(ValidationException.class,
+				() -> validator.validate(request("Ann", "secret123")));
+		assertEquals(Map.of("password", "Password must include an uppercase letter"), e.getErrors());
+		assertDoesNotThrow(() -> validator.validate(request("Ann", "Secret123")));
+	}
+
+	private record Form(String name, String password) {
+	}
+
+	private static Form request(String name, String password) {
+		return new Form(name, password);
+	}
+}